@@ -0,0 +1,97 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import com.et.SudburyCityPlatform.models.jobs.Job;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * The tokenization and scoring helpers behind {@link JobService#scoreJob}, each on realistic input.
+ */
+@State(Scope.Benchmark)
+public class MatchHelpersBenchmark {
+
+    private static final int N = 256;
+
+    private String[] rawTexts;
+    private JobFeatures[] features;
+    private List<String>[] roles;
+    private List<String>[] titles;
+    private String[] ranges;
+    private int[] years;
+    private SeekerMatchVector seeker;
+    private int cursor;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        List<Job> jobs = MatchingFixtures.jobs(N, 11);
+        rawTexts = new String[N];
+        features = new JobFeatures[N];
+        roles = new List[N];
+        titles = new List[N];
+        ranges = new String[N];
+        years = new int[N];
+        for (int i = 0; i < N; i++) {
+            Job j = jobs.get(i);
+            rawTexts[i] = j.getRequirements() + " " + j.getDescription() + " " + j.getRole();
+            features[i] = JobFeatures.of(j);
+            roles[i] = features[i].roleWords();
+            titles[i] = TextTokenizer.local().whitespace(MatchingFixtures.TITLES[(i * 7) % MatchingFixtures.TITLES.length]).terms();
+            ranges[i] = j.getExperienceRange();
+            years[i] = i % 12;
+        }
+        seeker = SeekerMatchVector.of(MatchingFixtures.profiles(1, 3).get(0));
+    }
+
+    private int next() {
+        return cursor++ & (N - 1);
+    }
+
+    /** Tokenizing alone: spans only, no Strings. */
+    @Benchmark
+    public int tokenizeWords() {
+        return TextTokenizer.local().words(rawTexts[next()]).count();
+    }
+
+    @Benchmark
+    public String normalizeText() {
+        return JobFeatures.normalizeText(rawTexts[next()]);
+    }
+
+    @Benchmark
+    public Object extractKeyTerms() {
+        return JobFeatures.extractKeyTerms(rawTexts[next()]);
+    }
+
+    /** Coverage loop of scoreJob: every key term of one job looked up in the seeker's term set. */
+    @Benchmark
+    public int seekerHasTerm() {
+        int covered = 0;
+        for (String term : features[next()].keyTerms()) {
+            if (seeker.hasTerm(term)) covered++;
+        }
+        return covered;
+    }
+
+    @Benchmark
+    public void skillMatcher(Blackhole bh) {
+        bh.consume(seeker.skillMatcher().matchAll(features[next()].text()));
+    }
+
+    @Benchmark
+    public int textOverlapPct() {
+        int i = next();
+        return JobService.textOverlapPct(roles[i], titles[i]);
+    }
+
+    @Benchmark
+    public int experienceMatchPercentage() {
+        int i = next();
+        return JobService.experienceMatchPercentage(years[i], ranges[i]);
+    }
+}
@@ -0,0 +1,65 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import com.et.SudburyCityPlatform.models.jobs.Job;
+import com.et.SudburyCityPlatform.models.jobs.JobSeekerProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * End-to-end match scoring: one seeker against a batch of jobs, as in the job listing.
+ *
+ * {@code scoreBatch} is the steady state (seeker vector and job features cached);
+ * the {@code build*} benchmarks measure what a cache miss costs.
+ */
+@State(Scope.Benchmark)
+public class MatchScoringBenchmark {
+
+    @Param({"1000"})
+    public int jobCount;
+
+    private List<Job> jobs;
+    private JobFeatures[] features;
+    private JobSeekerProfile profile;
+    private SeekerMatchVector seeker;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        jobs = MatchingFixtures.jobs(jobCount, 42);
+        features = new JobFeatures[jobs.size()];
+        for (int i = 0; i < features.length; i++) {
+            features[i] = JobFeatures.of(jobs.get(i));
+        }
+        profile = MatchingFixtures.profiles(1, 7).get(0);
+        seeker = SeekerMatchVector.of(profile);
+    }
+
+    @Benchmark
+    public int scoreOne() {
+        int i = cursor++ % features.length;
+        return JobService.scoreJob(seeker, features[i], null).getMatchPercentage();
+    }
+
+    @Benchmark
+    public void scoreBatch(Blackhole bh) {
+        for (JobFeatures f : features) {
+            bh.consume(JobService.scoreJob(seeker, f, null).getMatchPercentage());
+        }
+    }
+
+    @Benchmark
+    public SeekerMatchVector buildSeekerVector() {
+        return SeekerMatchVector.of(profile);
+    }
+
+    @Benchmark
+    public JobFeatures buildJobFeatures() {
+        return JobFeatures.of(jobs.get(cursor++ % jobs.size()));
+    }
+}
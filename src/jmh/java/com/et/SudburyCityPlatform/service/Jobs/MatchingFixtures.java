@@ -0,0 +1,156 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import com.et.SudburyCityPlatform.models.jobs.Education;
+import com.et.SudburyCityPlatform.models.jobs.Job;
+import com.et.SudburyCityPlatform.models.jobs.JobSeekerProfile;
+import com.et.SudburyCityPlatform.models.jobs.Preference;
+import com.et.SudburyCityPlatform.models.jobs.WorkExperience;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic synthetic jobs and job seeker profiles for the matching benchmarks.
+ * Text sizes follow real postings: ~120-word requirements, ~450-word descriptions,
+ * profiles with ~20 skills, a summary and three work-experience entries.
+ */
+final class MatchingFixtures {
+
+    static final String[] SKILLS = {
+            "java", "spring boot", "hibernate", "sql", "postgresql", "mysql", "docker", "kubernetes",
+            "aws", "azure", "gcp", "react", "angular", "vue", "typescript", "javascript", "node.js",
+            "python", "django", "flask", "c++", "c#", ".net", "go", "rust", "kotlin", "swift",
+            "git", "jenkins", "terraform", "ansible", "linux", "bash", "kafka", "rabbitmq", "redis",
+            "elasticsearch", "graphql", "rest api", "microservices", "ci/cd", "agile", "scrum",
+            "excel", "power bi", "tableau", "salesforce", "sap", "quickbooks", "customer service",
+            "forklift", "first aid", "whmis", "welding", "carpentry", "electrical", "plumbing",
+            "project management", "accounting", "payroll", "bookkeeping", "nursing", "phlebotomy"
+    };
+
+    static final String[] TITLES = {
+            "software developer", "senior java developer", "backend engineer", "full stack developer",
+            "data analyst", "devops engineer", "qa analyst", "project manager", "accountant",
+            "customer service representative", "warehouse associate", "registered nurse",
+            "electrician", "millwright", "administrative assistant", "mining engineer"
+    };
+
+    static final String[] LOCATIONS = {
+            "Sudbury, ON", "Toronto, ON", "Ottawa, ON", "North Bay, ON", "Sault Ste. Marie, ON",
+            "Timmins, ON", "Remote", "Hybrid - Sudbury, ON"
+    };
+
+    static final String[] EMPLOYMENT_TYPES = {"FULL_TIME", "PART_TIME", "CONTRACT", "INTERNSHIP"};
+
+    static final String[] EXPERIENCE_RANGES = {"0-1", "1-2", "2-4", "3-5", "5+", "7+", "", "entry level"};
+
+    private static final String[] WORDS = {
+            "team", "build", "maintain", "design", "develop", "support", "customers", "clients",
+            "systems", "services", "applications", "platform", "reliable", "scalable", "secure",
+            "performance", "quality", "testing", "deploy", "production", "monitor", "improve",
+            "collaborate", "stakeholders", "requirements", "deliver", "features", "documentation",
+            "review", "code", "operations", "process", "safety", "training", "schedule", "reports",
+            "analysis", "data", "budget", "inventory", "equipment", "community", "health", "city",
+            "northern", "ontario", "growth", "benefits", "opportunity", "experience", "knowledge",
+            "strong", "communication", "skills", "ability", "work", "independently", "environment",
+            "fast", "paced", "responsible", "ensure", "standards", "compliance", "the", "and",
+            "with", "for", "our", "you", "will", "in", "of", "to", "a", "on", "is", "are"
+    };
+
+    private MatchingFixtures() {
+    }
+
+    static List<Job> jobs(int count, long seed) {
+        Random rnd = new Random(seed);
+        List<Job> out = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Job job = new Job();
+            job.setId((long) i + 1);
+            job.setRole(pick(rnd, TITLES));
+            job.setCompanyName("Company " + i);
+            job.setLocation(pick(rnd, LOCATIONS));
+            job.setEmploymentType(pick(rnd, EMPLOYMENT_TYPES));
+            job.setExperienceRange(pick(rnd, EXPERIENCE_RANGES));
+            job.setRequirements(text(rnd, 120, 8));
+            job.setDescription(text(rnd, 450, 6));
+            job.setPostedDate(LocalDate.of(2026, 1, 1).plusDays(rnd.nextInt(300)));
+            out.add(job);
+        }
+        return out;
+    }
+
+    static List<JobSeekerProfile> profiles(int count, long seed) {
+        Random rnd = new Random(seed);
+        List<JobSeekerProfile> out = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            JobSeekerProfile p = new JobSeekerProfile();
+            p.setId((long) i + 1);
+            p.setEmail("seeker" + i + "@example.com");
+            p.setFullName("Seeker " + i);
+            p.setCity(pick(rnd, LOCATIONS).split(",")[0]);
+            p.setYearsOfExperience(rnd.nextInt(15));
+            p.setPrimarySkills(skills(rnd, 5));
+            p.setSkills(skills(rnd, 12));
+            p.setBasicSkills(skills(rnd, 5));
+            p.setSummary(text(rnd, 90, 10));
+
+            List<WorkExperience> work = new ArrayList<>();
+            for (int w = 0; w < 3; w++) {
+                WorkExperience we = new WorkExperience();
+                we.setProfile(p);
+                we.setJobTitle(pick(rnd, TITLES));
+                we.setCompany("Employer " + w);
+                we.setLocation(pick(rnd, LOCATIONS));
+                we.setTechnologies(skills(rnd, 4));
+                List<String> responsibilities = new ArrayList<>();
+                for (int r = 0; r < 4; r++) responsibilities.add(text(rnd, 15, 5));
+                we.setResponsibilities(responsibilities);
+                work.add(we);
+            }
+            p.setWorkExperience(work);
+
+            List<Education> education = new ArrayList<>();
+            Education ed = new Education();
+            ed.setProfile(p);
+            ed.setDegree("Bachelor of Science");
+            ed.setFieldOfStudy(pick(rnd, new String[]{"Computer Science", "Engineering", "Commerce", "Nursing"}));
+            ed.setLocation(pick(rnd, LOCATIONS));
+            education.add(ed);
+            p.setEducation(education);
+
+            Preference pref = new Preference();
+            pref.setProfile(p);
+            pref.setJobType(List.of(pick(rnd, EMPLOYMENT_TYPES)));
+            p.setPreference(pref);
+            out.add(p);
+        }
+        return out;
+    }
+
+    /**
+     * {@code words} words of filler text with a skill mentioned roughly every {@code skillEvery} words.
+     */
+    static String text(Random rnd, int words, int skillEvery) {
+        StringBuilder sb = new StringBuilder(words * 8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) sb.append(rnd.nextInt(12) == 0 ? ". " : (rnd.nextInt(10) == 0 ? ", " : " "));
+            sb.append(rnd.nextInt(skillEvery) == 0 ? pick(rnd, SKILLS) : pick(rnd, WORDS));
+        }
+        return sb.append('.').toString();
+    }
+
+    private static List<String> skills(Random rnd, int n) {
+        List<String> out = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            String s = pick(rnd, SKILLS);
+            // Mixed case and stray whitespace, as typed into the profile form.
+            out.add(rnd.nextBoolean() ? s : " " + s.toUpperCase() + " ");
+        }
+        return out;
+    }
+
+    private static String pick(Random rnd, String[] values) {
+        return values[rnd.nextInt(values.length)];
+    }
+}
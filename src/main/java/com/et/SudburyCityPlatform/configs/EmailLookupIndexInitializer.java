@@ -0,0 +1,43 @@
+package com.et.SudburyCityPlatform.configs;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Ensures the LOWER(TRIM(email)) expression indexes on user_profiles and applicant_details exist.
+ *
+ * Migration V11 creates them on existing databases; on a fresh database the tables only exist once
+ * Hibernate has run, so this startup hook applies the same DDL afterwards. Idempotent.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailLookupIndexInitializer implements ApplicationRunner {
+
+    private final EntityManager em;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        try {
+            ensureIndex("user_profiles", "idx_user_profiles_email_lower");
+            ensureIndex("applicant_details", "idx_applicant_details_email_lower");
+        } catch (Exception e) {
+            // Don't fail app startup; email matches still work, just without the index.
+            log.warn("Email lookup index setup failed (will continue): {}", e.getMessage());
+        }
+    }
+
+    private void ensureIndex(String table, String index) {
+        Object present = em.createNativeQuery("select to_regclass(CAST(:table AS text))")
+                .setParameter("table", "public." + table).getSingleResult();
+        if (present == null) return;
+        em.createNativeQuery("CREATE INDEX IF NOT EXISTS " + index + " ON " + table + " (LOWER(TRIM(email)))")
+                .executeUpdate();
+    }
+}
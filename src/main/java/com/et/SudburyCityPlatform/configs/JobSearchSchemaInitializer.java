@@ -0,0 +1,68 @@
+package com.et.SudburyCityPlatform.configs;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Ensures the database-generated search columns on jobs exist, with their indexes:
+ * search_vector (tsvector, GIN) for keyword search and salary_range (numrange, GiST) for
+ * salary range-overlap search.
+ *
+ * Migrations V5/V6 add them to existing databases, but Flyway runs before Hibernate creates tables,
+ * so on a fresh database the jobs table does not exist yet at that point. This startup hook applies
+ * the same DDL afterwards. It's idempotent and a no-op once the columns exist.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobSearchSchemaInitializer implements ApplicationRunner {
+
+    private final EntityManager em;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        try {
+            Object table = em.createNativeQuery("select to_regclass('public.jobs')").getSingleResult();
+            if (table == null) return;
+
+            ensureColumn("search_vector", """
+                ALTER TABLE jobs ADD COLUMN IF NOT EXISTS search_vector tsvector
+                    GENERATED ALWAYS AS (
+                        setweight(to_tsvector('english', coalesce(role, '')), 'A') ||
+                        setweight(to_tsvector('english', coalesce(company_name, '')), 'B') ||
+                        setweight(to_tsvector('english', coalesce(requirements, '')), 'B') ||
+                        setweight(to_tsvector('english', coalesce(description, '')), 'C')
+                    ) STORED
+                """, "CREATE INDEX IF NOT EXISTS idx_jobs_search_vector ON jobs USING GIN (search_vector)");
+
+            ensureColumn("salary_range", """
+                ALTER TABLE jobs ADD COLUMN IF NOT EXISTS salary_range numrange
+                    GENERATED ALWAYS AS (
+                        CASE WHEN annual_salary_min IS NULL OR annual_salary_max IS NULL THEN NULL
+                             ELSE numrange(annual_salary_min::numeric, annual_salary_max::numeric, '[]') END
+                    ) STORED
+                """, "CREATE INDEX IF NOT EXISTS idx_jobs_salary_range ON jobs USING GIST (salary_range)");
+        } catch (Exception e) {
+            // Don't fail app startup; the affected search is unavailable until the column exists.
+            log.warn("Job search schema setup failed (will continue): {}", e.getMessage());
+        }
+    }
+
+    private void ensureColumn(String column, String addColumn, String createIndex) {
+        Number present = (Number) em.createNativeQuery("""
+            select count(*) from information_schema.columns
+            where table_name = 'jobs' and column_name = :column
+            """).setParameter("column", column).getSingleResult();
+        if (present.intValue() > 0) return;
+
+        em.createNativeQuery(addColumn).executeUpdate();
+        em.createNativeQuery(createIndex).executeUpdate();
+        log.info("Created jobs.{} and its index.", column);
+    }
+}
@@ -4,21 +4,27 @@ import com.et.SudburyCityPlatform.dto.EmployerAcceptedCandidateDTO;
 import com.et.SudburyCityPlatform.dto.EmployerDashboardMetricsDTO;
 import com.et.SudburyCityPlatform.dto.EmployerJobPostRequestDTO;
 import com.et.SudburyCityPlatform.dto.EmployerJobStatsDTO;
+import com.et.SudburyCityPlatform.dto.JobImportStatusDTO;
+import com.et.SudburyCityPlatform.dto.JobCandidateMatchDTO;
 import com.et.SudburyCityPlatform.exception.BadRequestException;
 import com.et.SudburyCityPlatform.models.jobs.*;
 import com.et.SudburyCityPlatform.repository.Jobs.EmployerRepository;
+import com.et.SudburyCityPlatform.service.Jobs.JobImportService;
 import com.et.SudburyCityPlatform.service.Jobs.JobService;
 import com.et.SudburyCityPlatform.service.ai.JobPdfAiParserService;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.apache.tika.Tika;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -33,16 +39,19 @@ import java.util.List;
 public class EmployerJobController {
 
     private final JobService jobService;
+    private final JobImportService jobImportService;
     private final EmployerRepository employerRepository;
     private final JobPdfAiParserService jobPdfAiParserService;
     private final ObjectMapper objectMapper;
     private final Tika tika = new Tika();
 
     public EmployerJobController(JobService jobService,
+                                 JobImportService jobImportService,
                                  EmployerRepository employerRepository,
                                  JobPdfAiParserService jobPdfAiParserService,
                                  ObjectMapper objectMapper) {
         this.jobService = jobService;
+        this.jobImportService = jobImportService;
         this.employerRepository = employerRepository;
         this.jobPdfAiParserService = jobPdfAiParserService;
         this.objectMapper = objectMapper;
@@ -106,6 +115,43 @@ public class EmployerJobController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    /**
+     * Bulk import: a JSON array of job posts. Returns 202 with an import id right away; rows are validated
+     * and inserted in the background, poll GET /jobs/import/{importId} for progress and per-row errors.
+     */
+    @PostMapping(value = "/jobs/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<JobImportStatusDTO> importJobsJson(
+            @RequestBody JsonNode jobs,
+            @RequestParam(required = false) String email,
+            Authentication auth
+    ) {
+        Long employerId = resolveEmployerId(email, auth);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(jobImportService.submitJson(employerId, jobs));
+    }
+
+    /**
+     * Bulk import: CSV with a header row of job post field names (role, companyName, jobLocation, ...).
+     */
+    @PostMapping(value = "/jobs/import", consumes = "text/csv")
+    public ResponseEntity<JobImportStatusDTO> importJobsCsv(
+            @RequestBody String csv,
+            @RequestParam(required = false) String email,
+            Authentication auth
+    ) {
+        Long employerId = resolveEmployerId(email, auth);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(jobImportService.submitCsv(employerId, csv));
+    }
+
+    @GetMapping("/jobs/import/{importId}")
+    public JobImportStatusDTO importStatus(
+            @PathVariable String importId,
+            @RequestParam(required = false) String email,
+            Authentication auth
+    ) {
+        Long employerId = resolveEmployerId(email, auth);
+        return jobImportService.status(employerId, importId);
+    }
+
     @PostMapping(value = "/jobs/upload-pdf", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<JsonNode> uploadJobsPdf(
             @RequestParam("file") MultipartFile file,
@@ -146,13 +192,19 @@ public class EmployerJobController {
     }
 
     @GetMapping("/jobs/{jobId}")
-    public Job getEmployerJob(
+    public ResponseEntity<Job> getEmployerJob(
             @PathVariable Long jobId,
             @RequestParam(required = false) String email,
-            Authentication auth
+            Authentication auth,
+            ServletWebRequest request
     ) {
         Long employerId = resolveEmployerId(email, auth);
-        return jobService.getJobForEmployer(employerId, jobId);
+        // Ownership is checked before the conditional GET, so a 304 never answers for someone else's job.
+        Job job = jobService.getJobForEmployer(employerId, jobId);
+        if (notModified(request, JobService.jobETag(job))) {
+            return null;
+        }
+        return ResponseEntity.ok(job);
     }
 
     @PutMapping("/jobs/{jobId}")
@@ -202,6 +254,20 @@ public class EmployerJobController {
         return jobService.getApplicationsForJob(jobId, employerId);
     }
 
+    /**
+     * Reverse matching: best-matching job seeker profiles for this job, whether or not they applied.
+     */
+    @GetMapping("/jobs/{jobId}/candidates/top")
+    public List<JobCandidateMatchDTO> getTopCandidatesForJob(
+            @PathVariable Long jobId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String email,
+            Authentication auth
+    ) {
+        Long employerId = resolveEmployerId(email, auth);
+        return jobService.getTopCandidatesForJob(employerId, jobId, limit);
+    }
+
     @GetMapping("/applications/{applicationId}")
     public JobApplicationRequest getApplicationDetails(
             @PathVariable Long applicationId,
@@ -304,5 +370,16 @@ public class EmployerJobController {
         }
         return requestedEmployerId;
     }
+
+    /**
+     * Conditional GET on a strong ETag, marked private/no-cache so clients revalidate
+     * (same as {@link JobController}).
+     */
+    private static boolean notModified(ServletWebRequest request, String etag) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        }
+        return request.checkNotModified(etag);
+    }
 }
 
@@ -3,12 +3,13 @@ package com.et.SudburyCityPlatform.controller;
 import com.et.SudburyCityPlatform.models.events.Event;
 import com.et.SudburyCityPlatform.models.events.EventRegistrationRequest;
 import com.et.SudburyCityPlatform.models.events.EventRequest;
+import com.et.SudburyCityPlatform.service.ChangeVersionService;
+import com.et.SudburyCityPlatform.service.ResponseBodyCache;
 import com.et.SudburyCityPlatform.service.events.EventService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.ServletWebRequest;
 
 
 @RestController
@@ -16,9 +17,11 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
+    private final ResponseBodyCache responseBodyCache;
 
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService, ResponseBodyCache responseBodyCache) {
         this.eventService = eventService;
+        this.responseBodyCache = responseBodyCache;
     }
 
     // 1️⃣ Create Event
@@ -38,8 +41,8 @@ public class EventController {
 
     // 3️⃣ Get All Events
     @GetMapping
-    public ResponseEntity<List<Event>> getAllEvents() {
-        return ResponseEntity.ok(eventService.getAllEvents());
+    public ResponseEntity<byte[]> getAllEvents(ServletWebRequest request) {
+        return responseBodyCache.respond(ChangeVersionService.EVENTS, true, request, eventService::getAllEvents);
     }
 
     // 4️⃣ Get Event by ID
@@ -1,6 +1,10 @@
 package com.et.SudburyCityPlatform.controller;
 
 import com.et.SudburyCityPlatform.dto.ApplyJobRequestDTO;
+import com.et.SudburyCityPlatform.dto.JobCacheStatsDTO;
+import com.et.SudburyCityPlatform.dto.JobFacetCountsDTO;
+import com.et.SudburyCityPlatform.dto.JobListPageDTO;
+import com.et.SudburyCityPlatform.dto.JobSearchPageDTO;
 import com.et.SudburyCityPlatform.dto.JobMatchDTO;
 import com.et.SudburyCityPlatform.dto.JobSeekerInviteDTO;
 import com.et.SudburyCityPlatform.dto.JobSeekerNotificationDTO;
@@ -9,15 +13,20 @@ import com.et.SudburyCityPlatform.exception.BadRequestException;
 import com.et.SudburyCityPlatform.models.jobs.*;
 import com.et.SudburyCityPlatform.service.Jobs.JobService;
 import com.et.SudburyCityPlatform.service.Jobs.SavedJobService;
+import com.et.SudburyCityPlatform.service.ChangeVersionService;
+import com.et.SudburyCityPlatform.service.ResponseBodyCache;
 import com.et.SudburyCityPlatform.service.ResumeParserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 
@@ -35,11 +44,14 @@ public class JobController {
 
     private final ResumeParserService resumeParserService;
     private final SavedJobService savedJobService;
+    private final ResponseBodyCache responseBodyCache;
 
-    public JobController(JobService jobService, ResumeParserService resumeParserService, SavedJobService savedJobService) {
+    public JobController(JobService jobService, ResumeParserService resumeParserService, SavedJobService savedJobService,
+                         ResponseBodyCache responseBodyCache) {
         this.jobService = jobService;
         this.resumeParserService = resumeParserService;
         this.savedJobService = savedJobService;
+        this.responseBodyCache = responseBodyCache;
     }
 
     @PostMapping("/job")
@@ -60,13 +72,50 @@ public class JobController {
     @PreAuthorize("hasRole('STUDENT')")
     @Operation(
             summary = "Get All Jobs",
-            description = "Fetches all available job openings"
+            description = "Fetches all available job openings. With email, jobs carry a matchPercentage, "
+                    + "are sorted best match first and can be bounded with limit/minScore. "
+                    + "Send the returned ETag as If-None-Match to get 304 Not Modified while nothing changed."
     )
-    public List<Job> getAllJobs(@RequestParam(required = false) String email) {
-        if (email != null && !email.isBlank()) {
-            return jobService.getAllJobsWithMatchPercentage(email);
+    public ResponseEntity<?> getAllJobs(
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Integer minScore,
+            ServletWebRequest request) {
+        if (email == null || email.isBlank()) {
+            return responseBodyCache.respond(ChangeVersionService.JOBS, false, request, jobService::getAllJobsUncached);
+        }
+        if (notModified(request, jobService.jobMatchesETag())) {
+            return null;
         }
-        return jobService.getAllJobs();
+        return ResponseEntity.ok(jobService.getAllJobsWithMatchPercentage(email, limit, minScore));
+    }
+
+    @GetMapping("/job/page")
+    @PreAuthorize("hasRole('STUDENT')")
+    @Operation(
+            summary = "List Jobs (paged)",
+            description = "Newest jobs first as lightweight cards (no description/requirements/address). "
+                    + "Pass nextCursor from the previous response as cursor; nextCursor is null on the last page."
+    )
+    public JobListPageDTO listJobsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return jobService.listJobsPage(cursor, size);
+    }
+
+    @GetMapping("/job/{jobId}")
+    @PreAuthorize("hasRole('STUDENT')")
+    @Operation(
+            summary = "Get Job",
+            description = "Full details of a single job opening. "
+                    + "Send the returned ETag as If-None-Match to get 304 Not Modified while the job is unchanged."
+    )
+    public ResponseEntity<Job> getJob(@PathVariable Long jobId, ServletWebRequest request) {
+        Job job = jobService.getJob(jobId);
+        if (notModified(request, JobService.jobETag(job))) {
+            return null;
+        }
+        return ResponseEntity.ok(job);
     }
 
     @PutMapping("/job")
@@ -203,6 +252,16 @@ public class JobController {
         return jobService.getInvitesForJobSeeker(seekerEmail);
     }
 
+    @GetMapping("/cache/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(
+            summary = "Job Cache Statistics",
+            description = "Entries, capacity, hits, misses and evictions of the job detail and listing-page caches"
+    )
+    public JobCacheStatsDTO jobCacheStats() {
+        return jobService.getJobCacheStats();
+    }
+
     @GetMapping("/search")
     public List<Job> search(
             @RequestParam(required = false) String location,
@@ -211,6 +270,60 @@ public class JobController {
         return jobService.searchJobs(location, type, minSalary);
     }
 
+    @GetMapping("/search/facets")
+    @Operation(
+            summary = "Job Facet Counts",
+            description = "Number of jobs per employmentType, typeOfWork, experienceRange, language and urgentlyHiring value "
+                    + "for the current filters. Repeat a facet parameter to select several values (OR-ed); "
+                    + "a facet's own counts ignore its own selection."
+    )
+    public JobFacetCountsDTO facets(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Double minSalary,
+            @RequestParam(required = false) List<String> employmentType,
+            @RequestParam(required = false) List<String> typeOfWork,
+            @RequestParam(required = false) List<String> experienceRange,
+            @RequestParam(required = false) List<String> language,
+            @RequestParam(required = false) Boolean urgentlyHiring) {
+        return jobService.getJobFacets(location, minSalary, employmentType, typeOfWork,
+                experienceRange, language, urgentlyHiring);
+    }
+
+    @GetMapping("/search/salary")
+    @Operation(
+            summary = "Search Jobs by Salary Range",
+            description = "Jobs whose salary range overlaps [min, max], newest first; either bound may be omitted. "
+                    + "period is HOURLY or ANNUAL (default: amounts below 1000 are hourly). "
+                    + "Combines with location and type. page is zero-based; hasNext tells whether another page exists."
+    )
+    public JobSearchPageDTO searchBySalaryRange(
+            @RequestParam(required = false) Double min,
+            @RequestParam(required = false) Double max,
+            @RequestParam(required = false) SalaryPeriod period,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        return jobService.searchJobsBySalaryRange(min, max, period, location, type, page, size);
+    }
+
+    @GetMapping("/search/keyword")
+    @Operation(
+            summary = "Search Jobs by Keyword",
+            description = "Full-text search over role, company name, requirements and description, best match first. "
+                    + "Supports quoted phrases, 'or' and -exclusions; combines with the location, type and minSalary filters. "
+                    + "page is zero-based; hasNext tells whether another page exists."
+    )
+    public JobSearchPageDTO searchByKeyword(
+            @RequestParam String q,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Double minSalary,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        return jobService.searchJobsByKeyword(q, location, type, minSalary, page, size);
+    }
+
     @PostMapping("/jobs/{jobId}/save")
     public void saveJob(
             @PathVariable Long jobId,
@@ -222,9 +335,15 @@ public class JobController {
     public List<Job> saved(@RequestParam String email) {
         return savedJobService.getSaved(email);
     }
+    /**
+     * Jobs sharing at least one skill with the job seeker, best match first.
+     * Returns at most {@code limit} jobs (default 20).
+     */
     @GetMapping("/jobs/recommended")
-    public List<Job> recommended(@RequestParam String email) {
-        return jobService.matchJobsByProfile(email);
+    public List<Job> recommended(
+            @RequestParam String email,
+            @RequestParam(required = false) Integer limit) {
+        return jobService.matchJobsByProfile(email, limit);
     }
 
     /**
@@ -233,8 +352,21 @@ public class JobController {
      */
     @GetMapping("/jobs/matches")
     @PreAuthorize("hasAnyRole('STUDENT','EMPLOYER','ADMIN')")
-    public List<JobMatchDTO> jobMatches(@RequestParam String email) {
+    public List<JobMatchDTO> jobMatches(@RequestParam String email, ServletWebRequest request) {
+        if (notModified(request, jobService.jobMatchesETag())) {
+            return null;
+        }
         return jobService.getJobMatchesForJobSeeker(email);
     }
 
+    /**
+     * Conditional GET on a strong ETag. Also marks the response revalidate-only (private, no-cache),
+     * since the security filter chain would otherwise send no-store and clients would never revalidate.
+     */
+    private static boolean notModified(ServletWebRequest request, String etag) {
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        }
+        return request.checkNotModified(etag);
+    }
 }
@@ -2,21 +2,24 @@ package com.et.SudburyCityPlatform.controller;
 
 import com.et.SudburyCityPlatform.models.places.LocalPlace;
 import com.et.SudburyCityPlatform.models.places.LocalPlaceRequest;
+import com.et.SudburyCityPlatform.service.ChangeVersionService;
+import com.et.SudburyCityPlatform.service.ResponseBodyCache;
 import com.et.SudburyCityPlatform.service.place.LocalPlaceService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequestMapping("/api/local-places")
 public class LocalPlaceController {
 
     private final LocalPlaceService service;
+    private final ResponseBodyCache responseBodyCache;
 
-    public LocalPlaceController(LocalPlaceService service) {
+    public LocalPlaceController(LocalPlaceService service, ResponseBodyCache responseBodyCache) {
         this.service = service;
+        this.responseBodyCache = responseBodyCache;
     }
 
     // CREATE
@@ -36,8 +39,8 @@ public class LocalPlaceController {
 
     // GET ALL
     @GetMapping
-    public ResponseEntity<List<LocalPlace>> getAll() {
-        return ResponseEntity.ok(service.getAll());
+    public ResponseEntity<byte[]> getAll(ServletWebRequest request) {
+        return responseBodyCache.respond(ChangeVersionService.LOCAL_PLACES, true, request, service::getAll);
     }
 
     // GET BY ID
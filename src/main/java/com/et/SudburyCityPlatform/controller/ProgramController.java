@@ -6,10 +6,13 @@ import com.et.SudburyCityPlatform.models.program.ApplyProgramRequest;
 import com.et.SudburyCityPlatform.models.program.Program;
 import com.et.SudburyCityPlatform.models.program.ProgramRequest;
 import com.et.SudburyCityPlatform.repository.Jobs.JobSeekerProfileRepository;
+import com.et.SudburyCityPlatform.service.ChangeVersionService;
+import com.et.SudburyCityPlatform.service.ResponseBodyCache;
 import com.et.SudburyCityPlatform.service.program.ProgramService;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -19,10 +22,13 @@ public class ProgramController {
 
     private final ProgramService service;
     private final JobSeekerProfileRepository profileRepository;
+    private final ResponseBodyCache responseBodyCache;
 
-    public ProgramController(ProgramService service, JobSeekerProfileRepository profileRepository) {
+    public ProgramController(ProgramService service, JobSeekerProfileRepository profileRepository,
+                             ResponseBodyCache responseBodyCache) {
         this.service = service;
         this.profileRepository = profileRepository;
+        this.responseBodyCache = responseBodyCache;
     }
 
     @PostMapping
@@ -37,8 +43,8 @@ public class ProgramController {
     }
 
     @GetMapping
-    public List<Program> getAll() {
-        return service.getAll();
+    public ResponseEntity<byte[]> getAll(ServletWebRequest request) {
+        return responseBodyCache.respond(ChangeVersionService.PROGRAMS, true, request, service::getAll);
     }
 
     @GetMapping("/{id}")
@@ -1,5 +1,6 @@
 package com.et.SudburyCityPlatform.dto;
 
+import com.et.SudburyCityPlatform.models.jobs.SalaryPeriod;
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -54,6 +55,11 @@ public class EmployerJobPostRequestDTO {
     private Double salaryMin;
     private Double salaryMax;
 
+    /**
+     * Optional: HOURLY or ANNUAL. When omitted, amounts below 1000 are treated as hourly.
+     */
+    private SalaryPeriod salaryPeriod;
+
     /**
      * Optional. When set, job seeker is redirected to this URL on "Apply" (external apply).
      * When null/blank, use easy apply (in-app form).
@@ -0,0 +1,21 @@
+package com.et.SudburyCityPlatform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCacheStatsDTO {
+    private int jobEntries;
+    private int maxJobs;
+    private long jobHits;
+    private long jobMisses;
+    private int pageEntries;
+    private int maxPages;
+    private long pageHits;
+    private long pageMisses;
+    private long evictions;
+    private String ttl;
+}
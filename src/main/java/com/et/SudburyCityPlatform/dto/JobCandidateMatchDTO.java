@@ -0,0 +1,27 @@
+package com.et.SudburyCityPlatform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A job seeker profile ranked against one job (reverse matching).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCandidateMatchDTO {
+    private Long profileId;
+    private String fullName;
+    private String email;
+    private String city;
+    private Integer yearsOfExperience;
+
+    private int matchPercentage;           // 0..100
+    private int skillMatchPercentage;      // 0..100
+    private int experienceMatchPercentage; // 0..100
+    private List<String> matchedSkills;
+    private List<String> missingSkills;
+}
@@ -0,0 +1,15 @@
+package com.et.SudburyCityPlatform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobFacetCountsDTO {
+    private int total; // jobs matching every filter
+    private Map<String, Map<String, Integer>> facets; // facet -> value -> job count, most common first
+}
@@ -0,0 +1,45 @@
+package com.et.SudburyCityPlatform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Progress of an asynchronous bulk job import (see JobImportService).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobImportStatusDTO {
+
+    private String importId;
+    private State state;
+
+    private int totalRows;                    // known once the payload is parsed (0 while QUEUED)
+    private int processedRows;
+    private int importedRows;
+    private int failedRows;
+
+    private List<RowError> errors;            // first errors only, see errorsTruncated
+    private boolean errorsTruncated;
+
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private double rowsPerSecond;             // processed rows / running time
+
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int row;                      // 1-based position in the JSON array / CSV data rows
+        private String message;
+    }
+}
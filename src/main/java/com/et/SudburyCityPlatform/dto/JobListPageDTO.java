@@ -0,0 +1,16 @@
+package com.et.SudburyCityPlatform.dto;
+
+import com.et.SudburyCityPlatform.models.jobs.JobListItem;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobListPageDTO {
+    private List<JobListItem> items;
+    private String nextCursor; // null on the last page
+}
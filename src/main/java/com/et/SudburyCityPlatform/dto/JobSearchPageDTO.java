@@ -0,0 +1,18 @@
+package com.et.SudburyCityPlatform.dto;
+
+import com.et.SudburyCityPlatform.models.jobs.JobListItem;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSearchPageDTO {
+    private List<JobListItem> items; // best match first
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
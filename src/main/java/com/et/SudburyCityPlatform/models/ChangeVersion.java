@@ -0,0 +1,26 @@
+package com.et.SudburyCityPlatform.models;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Monotonic change counter per resource (e.g. "jobs"), bumped by the owning service on every write.
+ * Shared through the database so every instance derives the same ETags / cache keys.
+ */
+@Entity
+@Table(name = "change_versions")
+@Data
+@NoArgsConstructor
+public class ChangeVersion {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private long version;
+}
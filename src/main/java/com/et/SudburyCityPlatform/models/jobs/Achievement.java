@@ -14,7 +14,8 @@ import lombok.NoArgsConstructor;
 public class Achievement {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "achievements_seq")
+    @SequenceGenerator(name = "achievements_seq", sequenceName = "achievements_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -22,6 +23,9 @@ public class Achievement {
     @JsonIgnore
     private JobSeekerProfile profile;
 
+    @JsonIgnore
+    private Integer sortOrder;
+
     private String title;
     private String issueDate;
 
@@ -0,0 +1,44 @@
+package com.et.SudburyCityPlatform.models.jobs;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Daily rollup for the employer dashboard: number of applications to one job, applied on one day,
+ * that are currently in one status. Maintained incrementally by JobService on apply / status change
+ * and rebuilt nightly from applicantDetails by EmployerDashboardRollupService.
+ */
+@Entity
+@Table(
+        name = "application_daily_counts",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_application_daily_counts_employer_day_job_status",
+                columnNames = {"employer_id", "day", "job_id", "status"})
+)
+@Data
+@NoArgsConstructor
+public class ApplicationDailyCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "employer_id", nullable = false)
+    private Long employerId;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(nullable = false)
+    private LocalDate day;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ApplicationStatus status;
+
+    @Column(nullable = false)
+    private long count;
+}
@@ -14,7 +14,8 @@ import lombok.NoArgsConstructor;
 public class Certification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "certifications_seq")
+    @SequenceGenerator(name = "certifications_seq", sequenceName = "certifications_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -22,6 +23,9 @@ public class Certification {
     @JsonIgnore
     private JobSeekerProfile profile;
 
+    @JsonIgnore
+    private Integer sortOrder;
+
     private String name;
     private String issueDate;
     private String issuedOrganization;
@@ -0,0 +1,13 @@
+package com.et.SudburyCityPlatform.models.jobs;
+
+import java.time.LocalDate;
+
+/**
+ * Number of applications applied on one day that are now in one status.
+ */
+public interface DailyStatusCount {
+
+    LocalDate getDay();
+    ApplicationStatus getStatus();
+    long getCount();
+}
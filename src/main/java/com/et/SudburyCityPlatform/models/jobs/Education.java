@@ -14,7 +14,8 @@ import lombok.NoArgsConstructor;
 public class Education {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "education_seq")
+    @SequenceGenerator(name = "education_seq", sequenceName = "education_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -22,6 +23,9 @@ public class Education {
     @JsonIgnore
     private JobSeekerProfile profile;
 
+    @JsonIgnore
+    private Integer sortOrder;
+
     private String degree;
     private String fieldOfStudy;
     private String institution;
@@ -1,5 +1,6 @@
 package com.et.SudburyCityPlatform.models.jobs;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.persistence.*;
 
@@ -7,13 +8,18 @@ import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+        @Index(name = "idx_jobs_posted_date_id", columnList = "postedDate DESC, id DESC"),
+        @Index(name = "idx_jobs_updated_at", columnList = "updatedAt")
+})
 public class Job {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobs_seq")
+    @SequenceGenerator(name = "jobs_seq", sequenceName = "jobs_seq", allocationSize = 50)
     private Long id;
 
     @Column(columnDefinition = "TEXT")
@@ -24,6 +30,21 @@ public class Job {
     private Double salary; // dollars (legacy single value)
     private Double salaryMin;
     private Double salaryMax;
+
+    /**
+     * Unit of salary/salaryMin/salaryMax. Null means inferred from the amount (see {@link SalaryPeriod#infer}).
+     */
+    @Enumerated(EnumType.STRING)
+    private SalaryPeriod salaryPeriod;
+
+    /**
+     * Annualized salary bounds, derived on every write by {@link #annualizeSalary()}.
+     * The database derives the GiST-indexed salary_range column from them for range-overlap search.
+     */
+    @JsonIgnore
+    private Double annualSalaryMin;
+    @JsonIgnore
+    private Double annualSalaryMax;
     @Column(columnDefinition = "TEXT")
     private String employmentType; // PART_TIME or FULL_TIME
 
@@ -71,6 +92,12 @@ public class Job {
     )
     private Employer employer;
 
+    /**
+     * Last insert/update (writer's clock). Lets other instances re-index only the jobs changed since their last pass.
+     */
+    @JsonIgnore
+    private LocalDateTime updatedAt;
+
     /**
      * Computed per-request for a given job seeker (not stored in DB).
      * Only included in JSON when non-null.
@@ -87,6 +114,14 @@ public class Job {
         this.employer = employer;
     }
 
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     public Integer getMatchPercentage() {
         return matchPercentage;
     }
@@ -98,6 +133,35 @@ public class Job {
     // Constructors
     public Job() {}
 
+    @PrePersist
+    @PreUpdate
+    void beforeWrite() {
+        updatedAt = LocalDateTime.now();
+        annualizeSalary();
+    }
+
+    /**
+     * Normalizes the posted salary to annual bounds so range queries compare stored values only.
+     * Falls back to the legacy single salary when no range is given.
+     */
+    void annualizeSalary() {
+        Double lo = salaryMin != null ? salaryMin : (salaryMax != null ? salaryMax : salary);
+        Double hi = salaryMax != null ? salaryMax : (salaryMin != null ? salaryMin : salary);
+        if (lo == null) {
+            annualSalaryMin = null;
+            annualSalaryMax = null;
+            return;
+        }
+        if (lo > hi) {
+            Double t = lo;
+            lo = hi;
+            hi = t;
+        }
+        SalaryPeriod period = salaryPeriod != null ? salaryPeriod : SalaryPeriod.infer(hi);
+        annualSalaryMin = period.annualize(lo);
+        annualSalaryMax = period.annualize(hi);
+    }
+
     public Long getId() {
         return id;
     }
@@ -186,6 +250,22 @@ public class Job {
         this.salaryMax = salaryMax;
     }
 
+    public SalaryPeriod getSalaryPeriod() {
+        return salaryPeriod;
+    }
+
+    public void setSalaryPeriod(SalaryPeriod salaryPeriod) {
+        this.salaryPeriod = salaryPeriod;
+    }
+
+    public Double getAnnualSalaryMin() {
+        return annualSalaryMin;
+    }
+
+    public Double getAnnualSalaryMax() {
+        return annualSalaryMax;
+    }
+
     public String getAddress() {
         return address;
     }
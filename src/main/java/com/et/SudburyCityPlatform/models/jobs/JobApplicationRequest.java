@@ -13,12 +13,13 @@ import java.time.LocalDateTime;
 
 
 @Entity
-@Table(name = "applicantDetails")
+@Table(name = "applicantDetails", indexes = @Index(name = "idx_applicant_details_job_status", columnList = "job_id, status"))
 @Data
 @NoArgsConstructor
 public class JobApplicationRequest {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "applicant_details_seq")
+    @SequenceGenerator(name = "applicant_details_seq", sequenceName = "applicant_details_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -0,0 +1,24 @@
+package com.et.SudburyCityPlatform.models.jobs;
+
+import java.time.LocalDate;
+
+/**
+ * Card-sized view of a {@link Job} for list screens: no description, requirements or
+ * address text and no employer row. Full details come from the per-job endpoint.
+ */
+public record JobListItem(
+        Long id,
+        String role,
+        String companyName,
+        String location,
+        String employmentType,
+        String typeOfWork,
+        Double salary,
+        Double salaryMin,
+        Double salaryMax,
+        String experienceRange,
+        Boolean urgentlyHiring,
+        LocalDate postedDate,
+        String externalApplyUrl,
+        Long employerId
+) {}
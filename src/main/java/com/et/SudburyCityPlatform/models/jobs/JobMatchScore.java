@@ -0,0 +1,49 @@
+package com.et.SudburyCityPlatform.models.jobs;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Materialized match score of one job seeker profile against one job.
+ * Filled in the background by JobMatchScoreService; rows whose version differs from the
+ * current scoring algorithm version are ignored and rebuilt.
+ */
+@Entity
+@Table(
+        name = "job_match_scores",
+        uniqueConstraints = @UniqueConstraint(name = "uk_job_match_scores_job_profile", columnNames = {"job_id", "profile_id"}),
+        indexes = @Index(name = "idx_job_match_scores_profile", columnList = "profile_id")
+)
+@Data
+@NoArgsConstructor
+public class JobMatchScore {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_match_scores_seq")
+    @SequenceGenerator(name = "job_match_scores_seq", sequenceName = "job_match_scores_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "profile_id", nullable = false)
+    private Long profileId;
+
+    @Column(nullable = false)
+    private Integer score;
+
+    @Column(name = "skill_pct", nullable = false)
+    private Integer skillPct;
+
+    @Column(name = "exp_pct", nullable = false)
+    private Integer expPct;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+    @Column(nullable = false)
+    private Integer version;
+}
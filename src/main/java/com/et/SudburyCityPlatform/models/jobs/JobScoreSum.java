@@ -0,0 +1,11 @@
+package com.et.SudburyCityPlatform.models.jobs;
+
+/**
+ * Sum and number of stored applicant match scores of one job.
+ */
+public interface JobScoreSum {
+
+    Long getJobId();
+    long getScoreSum();
+    long getScored();
+}
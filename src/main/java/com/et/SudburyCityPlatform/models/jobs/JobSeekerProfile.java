@@ -1,15 +1,17 @@
 package com.et.SudburyCityPlatform.models.jobs;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Entity
-@Table(name = "user_profiles")
+@Table(name = "user_profiles", indexes = @Index(name = "idx_user_profiles_changed_at", columnList = "changed_at"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -59,23 +61,30 @@ public class JobSeekerProfile {
 
     private String resumeUrl;
 
-    // One-to-Many
+    // One-to-Many, kept in the order the client sent them: each child's sortOrder is its list position,
+    // null on rows saved before it was tracked, which sort last (then by id)
     @OneToMany(mappedBy = "profile", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("sortOrder ASC, id ASC")
     private List<Education> education;
 
     @OneToMany(mappedBy = "profile", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("sortOrder ASC, id ASC")
     private List<WorkExperience> workExperience;
 
     @OneToMany(mappedBy = "profile", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("sortOrder ASC, id ASC")
     private List<Project> projects;
 
     @OneToMany(mappedBy = "profile", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("sortOrder ASC, id ASC")
     private List<Achievement> achievements;
 
     @OneToMany(mappedBy = "profile", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("sortOrder ASC, id ASC")
     private List<Certification> certifications;
 
     @OneToMany(mappedBy = "profile", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("sortOrder ASC, id ASC")
     private List<LanguageProficiency> languages;
 
     // One-to-One
@@ -95,6 +104,12 @@ public class JobSeekerProfile {
     @Column(name = "updated_at")
     private LocalDate updatedAt;
 
+    // Precise time of the last save through JobSeekerProfileService (updatedAt is a date, and isn't bumped
+    // when only child collections change). Drives the ProfileSkillIndex catch-up on other instances.
+    @JsonIgnore
+    @Column(name = "changed_at")
+    private LocalDateTime changedAt;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDate.now();
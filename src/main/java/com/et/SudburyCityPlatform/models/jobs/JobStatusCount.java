@@ -0,0 +1,11 @@
+package com.et.SudburyCityPlatform.models.jobs;
+
+/**
+ * Number of applications of one job in one status.
+ */
+public interface JobStatusCount {
+
+    Long getJobId();
+    ApplicationStatus getStatus();
+    long getCount();
+}
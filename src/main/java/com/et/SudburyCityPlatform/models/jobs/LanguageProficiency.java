@@ -14,7 +14,8 @@ import lombok.NoArgsConstructor;
 public class LanguageProficiency {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "language_proficiencies_seq")
+    @SequenceGenerator(name = "language_proficiencies_seq", sequenceName = "language_proficiencies_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -22,6 +23,9 @@ public class LanguageProficiency {
     @JsonIgnore
     private JobSeekerProfile profile;
 
+    @JsonIgnore
+    private Integer sortOrder;
+
     private String language;
     private String speaking;
     private String reading;
@@ -0,0 +1,7 @@
+package com.et.SudburyCityPlatform.models.jobs;
+
+public interface ProfileSkill {
+
+    Long getProfileId();
+    String getSkill();
+}
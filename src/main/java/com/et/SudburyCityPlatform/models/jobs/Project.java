@@ -14,7 +14,8 @@ import lombok.NoArgsConstructor;
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_seq")
+    @SequenceGenerator(name = "projects_seq", sequenceName = "projects_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -22,6 +23,9 @@ public class Project {
     @JsonIgnore
     private JobSeekerProfile profile;
 
+    @JsonIgnore
+    private Integer sortOrder;
+
     private String name;
 
     @Column(columnDefinition = "TEXT")
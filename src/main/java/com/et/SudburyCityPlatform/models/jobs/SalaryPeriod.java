@@ -0,0 +1,28 @@
+package com.et.SudburyCityPlatform.models.jobs;
+
+/**
+ * Unit a posted salary is expressed in. Salary range search compares annualized values.
+ */
+public enum SalaryPeriod {
+    HOURLY(2080),  // 40 h x 52 weeks, same factor the PDF job parser uses
+    ANNUAL(1);
+
+    /**
+     * Values below this are taken to be hourly rates when no period is given.
+     */
+    public static final double HOURLY_THRESHOLD = 1000;
+
+    private final int perYear;
+
+    SalaryPeriod(int perYear) {
+        this.perYear = perYear;
+    }
+
+    public double annualize(double amount) {
+        return amount * perYear;
+    }
+
+    public static SalaryPeriod infer(double amount) {
+        return amount < HOURLY_THRESHOLD ? HOURLY : ANNUAL;
+    }
+}
@@ -0,0 +1,12 @@
+package com.et.SudburyCityPlatform.models.jobs;
+
+/**
+ * One education entry, for {@link ScoringProfile}.
+ */
+public interface ScoringEducationRow {
+
+    Long getProfileId();
+    String getDegree();
+    String getFieldOfStudy();
+    String getLocation();
+}
@@ -0,0 +1,58 @@
+package com.et.SudburyCityPlatform.models.jobs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only slice of a {@link JobSeekerProfile} holding exactly what matching reads.
+ * Bulk paths load it with native array-aggregating queries (see ProfileBatchLoader), so no managed
+ * entity, lazy collection or dirty-checking snapshot is created; {@link #of(JobSeekerProfile)} adapts an
+ * already loaded entity. Lists are never null.
+ */
+public record ScoringProfile(
+        Long id,
+        String email,
+        String fullName,
+        String city,
+        String summary,
+        Integer yearsOfExperience,
+        List<String> primarySkills,
+        List<String> skills,
+        List<String> basicSkills,
+        List<String> preferredJobTypes,
+        List<Work> workExperience,
+        List<Schooling> education
+) {
+
+    public record Work(String jobTitle, String location, List<String> technologies, List<String> responsibilities) {
+    }
+
+    public record Schooling(String degree, String fieldOfStudy, String location) {
+    }
+
+    public static ScoringProfile of(JobSeekerProfile p) {
+        List<Work> work = new ArrayList<>();
+        if (p.getWorkExperience() != null) {
+            for (WorkExperience we : p.getWorkExperience()) {
+                work.add(new Work(we.getJobTitle(), we.getLocation(),
+                        orEmpty(we.getTechnologies()), orEmpty(we.getResponsibilities())));
+            }
+        }
+        List<Schooling> education = new ArrayList<>();
+        if (p.getEducation() != null) {
+            for (Education ed : p.getEducation()) {
+                education.add(new Schooling(ed.getDegree(), ed.getFieldOfStudy(), ed.getLocation()));
+            }
+        }
+        Preference pref = p.getPreference();
+        return new ScoringProfile(
+                p.getId(), p.getEmail(), p.getFullName(), p.getCity(), p.getSummary(), p.getYearsOfExperience(),
+                orEmpty(p.getPrimarySkills()), orEmpty(p.getSkills()), orEmpty(p.getBasicSkills()),
+                pref != null ? orEmpty(pref.getJobType()) : List.of(),
+                work, education);
+    }
+
+    private static List<String> orEmpty(List<String> values) {
+        return values != null ? values : List.of();
+    }
+}
@@ -0,0 +1,20 @@
+package com.et.SudburyCityPlatform.models.jobs;
+
+import java.util.List;
+
+/**
+ * Scalar columns and aggregated skill / preferred job type arrays of one profile, for {@link ScoringProfile}.
+ */
+public interface ScoringProfileRow {
+
+    Long getId();
+    String getEmail();
+    String getFullName();
+    String getCity();
+    String getSummary();
+    Integer getYearsOfExperience();
+    List<String> getPrimarySkills();
+    List<String> getSkills();
+    List<String> getBasicSkills();
+    List<String> getJobTypes();
+}
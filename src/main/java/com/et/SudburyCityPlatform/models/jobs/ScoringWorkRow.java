@@ -0,0 +1,15 @@
+package com.et.SudburyCityPlatform.models.jobs;
+
+import java.util.List;
+
+/**
+ * One work experience entry with its aggregated technologies and responsibilities, for {@link ScoringProfile}.
+ */
+public interface ScoringWorkRow {
+
+    Long getProfileId();
+    String getJobTitle();
+    String getLocation();
+    List<String> getTechnologies();
+    List<String> getResponsibilities();
+}
@@ -0,0 +1,8 @@
+package com.et.SudburyCityPlatform.models.jobs;
+
+public interface StoredMatchScore {
+
+    Long getJobId();
+    String getEmail();
+    Integer getScore();
+}
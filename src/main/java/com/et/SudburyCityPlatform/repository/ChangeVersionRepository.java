@@ -0,0 +1,34 @@
+package com.et.SudburyCityPlatform.repository;
+
+import com.et.SudburyCityPlatform.models.ChangeVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface ChangeVersionRepository extends JpaRepository<ChangeVersion, String> {
+
+    @Query("SELECT v.version FROM ChangeVersion v WHERE v.name = :name")
+    Optional<Long> findVersion(@Param("name") String name);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+INSERT INTO change_versions (name, version) VALUES (:name, 1)
+ON CONFLICT (name) DO UPDATE SET version = change_versions.version + 1
+""", nativeQuery = true)
+    int increment(@Param("name") String name);
+
+    @Transactional
+    @Query(value = """
+INSERT INTO change_versions (name, version) VALUES (:name, 1)
+ON CONFLICT (name) DO UPDATE SET version = change_versions.version + 1
+RETURNING version
+""", nativeQuery = true)
+    long incrementAndGet(@Param("name") String name);
+}
@@ -0,0 +1,99 @@
+package com.et.SudburyCityPlatform.repository.Jobs;
+
+import com.et.SudburyCityPlatform.models.jobs.ApplicationDailyCount;
+import com.et.SudburyCityPlatform.models.jobs.ApplicationStatus;
+import com.et.SudburyCityPlatform.models.jobs.DailyStatusCount;
+import com.et.SudburyCityPlatform.models.jobs.JobStatusCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ApplicationDailyCountRepository extends JpaRepository<ApplicationDailyCount, Long> {
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+INSERT INTO application_daily_counts (employer_id, job_id, day, status, count)
+VALUES (:employerId, :jobId, :day, :status, :delta)
+ON CONFLICT (employer_id, day, job_id, status)
+DO UPDATE SET count = application_daily_counts.count + EXCLUDED.count
+""", nativeQuery = true)
+    int add(
+            @Param("employerId") Long employerId,
+            @Param("jobId") Long jobId,
+            @Param("day") LocalDate day,
+            @Param("status") String status,
+            @Param("delta") long delta
+    );
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ApplicationDailyCount r WHERE r.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+
+    @Query("""
+SELECT r.jobId AS jobId, r.status AS status, SUM(r.count) AS count
+FROM ApplicationDailyCount r
+WHERE r.employerId = :employerId
+GROUP BY r.jobId, r.status
+""")
+    List<JobStatusCount> sumByJobAndStatusForEmployer(@Param("employerId") Long employerId);
+
+    /**
+     * Applications of the employer applied on a day in [from, to) and now in one of the given statuses.
+     */
+    @Query("""
+SELECT COALESCE(SUM(r.count), 0)
+FROM ApplicationDailyCount r
+WHERE r.employerId = :employerId
+AND r.status IN :statuses
+AND r.day >= :from AND r.day < :to
+""")
+    long sumForEmployer(
+            @Param("employerId") Long employerId,
+            @Param("statuses") Collection<ApplicationStatus> statuses,
+            @Param("from") LocalDate from,
+            @Param("to") LocalDate to
+    );
+
+    @Query("""
+SELECT r.day AS day, r.status AS status, SUM(r.count) AS count
+FROM ApplicationDailyCount r
+WHERE r.employerId = :employerId
+AND r.day >= :from
+GROUP BY r.day, r.status
+""")
+    List<DailyStatusCount> sumByDayAndStatusForEmployer(
+            @Param("employerId") Long employerId,
+            @Param("from") LocalDate from
+    );
+
+    // ---- Nightly reconciliation: rebuild every row from applicantDetails (one transaction, see the service) ----
+
+    /** Transaction-scoped lock so only one instance rebuilds at a time. */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('application_daily_counts'))", nativeQuery = true)
+    boolean tryLockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM application_daily_counts", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = """
+INSERT INTO application_daily_counts (employer_id, job_id, day, status, count)
+SELECT j.employer_id, a.job_id, CAST(a.applied_at AS date), a.status, COUNT(*)
+FROM applicant_details a
+JOIN jobs j ON j.id = a.job_id
+WHERE j.employer_id IS NOT NULL AND a.applied_at IS NOT NULL AND a.status IS NOT NULL
+GROUP BY j.employer_id, a.job_id, CAST(a.applied_at AS date), a.status
+""", nativeQuery = true)
+    int rebuildAll();
+}
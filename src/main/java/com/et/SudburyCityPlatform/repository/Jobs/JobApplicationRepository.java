@@ -2,6 +2,7 @@ package com.et.SudburyCityPlatform.repository.Jobs;
 
 import com.et.SudburyCityPlatform.models.jobs.ApplicationSummary;
 import com.et.SudburyCityPlatform.models.jobs.JobApplicationRequest;
+import com.et.SudburyCityPlatform.models.jobs.JobStatusCount;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -31,6 +32,13 @@ public interface JobApplicationRepository
     List<JobApplicationRequest> findByJobIdIn(List<Long> jobIds);
 
     boolean existsByJobIdAndEmail(Long jobId, String email);
+
+    @Query("SELECT DISTINCT LOWER(TRIM(a.email)) FROM JobApplicationRequest a WHERE a.job.id = :jobId AND a.email IS NOT NULL")
+    List<String> findApplicantEmailsByJobId(@Param("jobId") Long jobId);
+
+    @Query("SELECT DISTINCT a.job.id FROM JobApplicationRequest a WHERE LOWER(TRIM(a.email)) = LOWER(:email)")
+    List<Long> findJobIdsByApplicantEmail(@Param("email") String email);
+
     @Query("""
 SELECT a.status AS status, COUNT(a) AS count
 FROM JobApplicationRequest a
@@ -39,5 +47,33 @@ GROUP BY a.status
 """)
     List<ApplicationSummary> summary(@Param("email") String email);
 
+    @Query("""
+SELECT a.job.id AS jobId, a.status AS status, COUNT(a) AS count
+FROM JobApplicationRequest a
+WHERE a.job.employer.id = :employerId
+GROUP BY a.job.id, a.status
+""")
+    List<JobStatusCount> countByStatusForEmployer(@Param("employerId") Long employerId);
+
+    /**
+     * Applications to the employer's jobs whose applicant has a profile but no current-version stored match score.
+     */
+    @Query("""
+SELECT a FROM JobApplicationRequest a
+WHERE a.job.employer.id = :employerId
+AND EXISTS (
+    SELECT 1 FROM JobSeekerProfile p
+    WHERE LOWER(TRIM(p.email)) = LOWER(TRIM(a.email))
+    AND NOT EXISTS (
+        SELECT 1 FROM JobMatchScore s
+        WHERE s.profileId = p.id AND s.jobId = a.job.id AND s.version = :version
+    )
+)
+""")
+    List<JobApplicationRequest> findUnscoredForEmployer(
+            @Param("employerId") Long employerId,
+            @Param("version") int version
+    );
+
 }
 
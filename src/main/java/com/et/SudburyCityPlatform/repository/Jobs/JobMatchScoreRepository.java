@@ -0,0 +1,66 @@
+package com.et.SudburyCityPlatform.repository.Jobs;
+
+import com.et.SudburyCityPlatform.models.jobs.JobMatchScore;
+import com.et.SudburyCityPlatform.models.jobs.JobScoreSum;
+import com.et.SudburyCityPlatform.models.jobs.StoredMatchScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface JobMatchScoreRepository extends JpaRepository<JobMatchScore, Long> {
+
+    List<JobMatchScore> findByJobIdAndProfileIdIn(Long jobId, Collection<Long> profileIds);
+
+    /**
+     * Current-version scores for the given jobs, keyed by applicant email (lower-cased).
+     */
+    @Query("""
+SELECT s.jobId AS jobId, LOWER(TRIM(p.email)) AS email, s.score AS score
+FROM JobMatchScore s, JobSeekerProfile p
+WHERE p.id = s.profileId
+AND s.jobId IN :jobIds
+AND s.version = :version
+""")
+    List<StoredMatchScore> findCurrentScores(
+            @Param("jobIds") Collection<Long> jobIds,
+            @Param("version") int version
+    );
+
+    /**
+     * Per job of the employer: sum and count of current-version scores of its applicants (matched by email).
+     */
+    @Query("""
+SELECT a.job.id AS jobId, SUM(s.score) AS scoreSum, COUNT(s) AS scored
+FROM JobApplicationRequest a, JobSeekerProfile p, JobMatchScore s
+WHERE a.job.employer.id = :employerId
+AND LOWER(TRIM(p.email)) = LOWER(TRIM(a.email))
+AND s.profileId = p.id
+AND s.jobId = a.job.id
+AND s.version = :version
+GROUP BY a.job.id
+""")
+    List<JobScoreSum> sumApplicantScoresForEmployer(
+            @Param("employerId") Long employerId,
+            @Param("version") int version
+    );
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM JobMatchScore s WHERE s.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM JobMatchScore s WHERE s.profileId = :profileId")
+    int deleteByProfileId(@Param("profileId") Long profileId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM JobMatchScore s WHERE s.version <> :version")
+    int deleteByVersionNot(@Param("version") int version);
+}
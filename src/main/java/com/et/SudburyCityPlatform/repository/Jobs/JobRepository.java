@@ -3,19 +3,61 @@ package com.et.SudburyCityPlatform.repository.Jobs;
 import com.et.SudburyCityPlatform.models.jobs.ApplicationSummary;
 import com.et.SudburyCityPlatform.models.jobs.Job;
 import com.et.SudburyCityPlatform.models.jobs.JobApplicationRequest;
+import com.et.SudburyCityPlatform.models.jobs.JobListItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
     List<Job> findByEmployerId(Long employerId);
 
+    @Query("SELECT j.postedDate FROM Job j WHERE j.employer.id = :employerId")
+    List<LocalDate> findPostedDatesByEmployerId(@Param("employerId") Long employerId);
+
     List<Job> findTop20ByOrderByPostedDateDesc();
 
+    // ---- Index catch-up (see JobService#catchUpJobIndexes) ----
+
+    List<Job> findByUpdatedAtAfter(LocalDateTime since);
+
+    @Query("SELECT j.id FROM Job j")
+    List<Long> findAllIds();
+
+    // ---- Keyset listing, newest first: dated jobs by (postedDate, id) desc, then undated jobs by id desc ----
+
+    String JOB_LIST_ITEM = """
+SELECT new com.et.SudburyCityPlatform.models.jobs.JobListItem(
+    j.id, j.role, j.companyName, j.location, j.employmentType, j.typeOfWork,
+    j.salary, j.salaryMin, j.salaryMax, j.experienceRange, j.urgentlyHiring,
+    j.postedDate, j.externalApplyUrl, j.employer.id)
+FROM Job j
+""";
+
+    @Query(JOB_LIST_ITEM + "WHERE j.postedDate IS NOT NULL ORDER BY j.postedDate DESC, j.id DESC")
+    List<JobListItem> listDated(Pageable page);
+
+    @Query(JOB_LIST_ITEM + """
+WHERE j.postedDate < :postedDate
+   OR (j.postedDate = :postedDate AND j.id < :id)
+ORDER BY j.postedDate DESC, j.id DESC
+""")
+    List<JobListItem> listDatedAfter(
+            @Param("postedDate") LocalDate postedDate,
+            @Param("id") Long id,
+            Pageable page
+    );
+
+    @Query(JOB_LIST_ITEM + "WHERE j.postedDate IS NULL AND j.id < :id ORDER BY j.id DESC")
+    List<JobListItem> listUndatedAfter(@Param("id") Long id, Pageable page);
+
     @Query("""
 SELECT j FROM Job j
 WHERE (:location IS NULL OR j.location = :location)
@@ -28,4 +70,51 @@ AND (:minSalary IS NULL OR j.salary >= :minSalary)
             @Param("minSalary") Double minSalary
     );
 
+    // ---- Keyword search over the generated jobs.search_vector column (GIN-indexed, see V5 migration) ----
+
+    @Query(value = """
+SELECT j.id
+FROM jobs j, websearch_to_tsquery('english', :q) query
+WHERE j.search_vector @@ query
+AND (CAST(:location AS text) IS NULL OR j.location = :location)
+AND (CAST(:type AS text) IS NULL OR j.employment_type = :type)
+AND (CAST(:minSalary AS double precision) IS NULL OR j.salary >= :minSalary)
+ORDER BY ts_rank_cd(j.search_vector, query) DESC, j.id DESC
+LIMIT :limit OFFSET :offset
+""", nativeQuery = true)
+    List<Long> searchIdsByKeyword(
+            @Param("q") String q,
+            @Param("location") String location,
+            @Param("type") String type,
+            @Param("minSalary") Double minSalary,
+            @Param("limit") int limit,
+            @Param("offset") long offset
+    );
+
+    // ---- Salary range overlap on the generated, GiST-indexed jobs.salary_range column (see V6 migration) ----
+
+    /**
+     * Jobs whose annualized range overlaps [min, max]; a null bound is open-ended. Newest first.
+     */
+    @Query(value = """
+SELECT j.id
+FROM jobs j
+WHERE j.salary_range && numrange(CAST(:min AS numeric), CAST(:max AS numeric), '[]')
+AND (CAST(:location AS text) IS NULL OR j.location = :location)
+AND (CAST(:type AS text) IS NULL OR j.employment_type = :type)
+ORDER BY j.posted_date DESC NULLS LAST, j.id DESC
+LIMIT :limit OFFSET :offset
+""", nativeQuery = true)
+    List<Long> searchIdsBySalaryRange(
+            @Param("min") Double min,
+            @Param("max") Double max,
+            @Param("location") String location,
+            @Param("type") String type,
+            @Param("limit") int limit,
+            @Param("offset") long offset
+    );
+
+    @Query(JOB_LIST_ITEM + "WHERE j.id IN :ids")
+    List<JobListItem> findListItemsByIdIn(@Param("ids") Collection<Long> ids);
+
 }
@@ -1,9 +1,17 @@
 package com.et.SudburyCityPlatform.repository.Jobs;
 
 import com.et.SudburyCityPlatform.models.jobs.JobSeekerProfile;
+import com.et.SudburyCityPlatform.models.jobs.ProfileSkill;
+import com.et.SudburyCityPlatform.models.jobs.ScoringEducationRow;
+import com.et.SudburyCityPlatform.models.jobs.ScoringProfileRow;
+import com.et.SudburyCityPlatform.models.jobs.ScoringWorkRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
@@ -15,5 +23,74 @@ public interface JobSeekerProfileRepository
     Optional<JobSeekerProfile> findByEmail(String email);
 
     List<JobSeekerProfile> findByEmailIn(Collection<String> emails);
+
+    // ---- Scoring projection (see ProfileBatchLoader): plain rows with the element collections aggregated
+    // into arrays, so bulk matching never builds managed profiles. Aliases are quoted to keep their case. ----
+
+    String SCORING_PROFILE_ROW = """
+SELECT p.id AS "id", p.email AS "email", p.full_name AS "fullName", p.city AS "city",
+       p.summary AS "summary", p.years_of_experience AS "yearsOfExperience",
+       ARRAY(SELECT s.skill FROM job_seeker_primary_skills s WHERE s.profile_id = p.id AND s.skill IS NOT NULL) AS "primarySkills",
+       ARRAY(SELECT s.skill FROM job_seeker_skills s WHERE s.profile_id = p.id AND s.skill IS NOT NULL) AS "skills",
+       ARRAY(SELECT s.skill FROM job_seeker_basic_skills s WHERE s.profile_id = p.id AND s.skill IS NOT NULL) AS "basicSkills",
+       ARRAY(SELECT t.job_type FROM preferences pr JOIN preference_job_types t ON t.preference_id = pr.id
+             WHERE pr.profile_id = p.id AND t.job_type IS NOT NULL) AS "jobTypes"
+FROM user_profiles p
+""";
+
+    /**
+     * @param emails lower-cased, trimmed emails; matched against the normalized column (idx_user_profiles_email_lower, V11)
+     */
+    @Query(value = SCORING_PROFILE_ROW + "WHERE LOWER(TRIM(p.email)) IN (:emails)", nativeQuery = true)
+    List<ScoringProfileRow> findScoringRowsByEmailIn(@Param("emails") Collection<String> emails);
+
+    @Query(value = SCORING_PROFILE_ROW + "WHERE p.id IN (:ids)", nativeQuery = true)
+    List<ScoringProfileRow> findScoringRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = """
+SELECT w.profile_id AS "profileId", w.job_title AS "jobTitle", w.location AS "location",
+       ARRAY(SELECT t.technology FROM work_experience_technologies t
+             WHERE t.work_experience_id = w.id AND t.technology IS NOT NULL) AS "technologies",
+       ARRAY(SELECT r.responsibility FROM work_experience_responsibilities r
+             WHERE r.work_experience_id = w.id AND r.responsibility IS NOT NULL) AS "responsibilities"
+FROM work_experience w
+WHERE w.profile_id IN (:ids)
+ORDER BY w.profile_id, w.sort_order, w.id
+""", nativeQuery = true)
+    List<ScoringWorkRow> findScoringWorkByProfileIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = """
+SELECT e.profile_id AS "profileId", e.degree AS "degree", e.field_of_study AS "fieldOfStudy", e.location AS "location"
+FROM education e
+WHERE e.profile_id IN (:ids)
+ORDER BY e.profile_id, e.sort_order, e.id
+""", nativeQuery = true)
+    List<ScoringEducationRow> findScoringEducationByProfileIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Keyset page of profile ids above {@code afterId}, ascending.
+     */
+    @Query("SELECT p.id FROM JobSeekerProfile p WHERE p.id > :afterId ORDER BY p.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable page);
+
+    /**
+     * Ids of profiles saved after {@code since} (see JobSeekerProfile#changedAt), for ProfileSkillIndex catch-up.
+     */
+    @Query("SELECT p.id FROM JobSeekerProfile p WHERE p.changedAt > :since")
+    List<Long> findIdsChangedAfter(@Param("since") LocalDateTime since);
+
+    // Skill strings only (no profile rows), for building ProfileSkillIndex.
+
+    @Query("SELECT p.id AS profileId, s AS skill FROM JobSeekerProfile p JOIN p.skills s WHERE p.id IN :ids")
+    List<ProfileSkill> findSkillsByProfileIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id AS profileId, s AS skill FROM JobSeekerProfile p JOIN p.primarySkills s WHERE p.id IN :ids")
+    List<ProfileSkill> findPrimarySkillsByProfileIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id AS profileId, s AS skill FROM JobSeekerProfile p JOIN p.basicSkills s WHERE p.id IN :ids")
+    List<ProfileSkill> findBasicSkillsByProfileIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT w.profile.id AS profileId, t AS skill FROM WorkExperience w JOIN w.technologies t WHERE w.profile.id IN :ids")
+    List<ProfileSkill> findWorkTechnologiesByProfileIdIn(@Param("ids") Collection<Long> ids);
 }
 
@@ -0,0 +1,58 @@
+package com.et.SudburyCityPlatform.service;
+
+import com.et.SudburyCityPlatform.repository.ChangeVersionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Per-resource change versions backing strong ETags and versioned response caches.
+ *
+ * Services call {@link #bump(String)} after writing a resource (inside the write's transaction when
+ * there is one, so data and version commit together). Readers derive ETags from {@link #current(String)},
+ * a primary-key lookup, instead of loading and serializing the resource.
+ */
+@Service
+public class ChangeVersionService {
+
+    public static final String JOBS = "jobs";
+    public static final String JOB_SEEKER_PROFILES = "job_seeker_profiles";
+    public static final String EVENTS = "events";
+    public static final String LOCAL_PLACES = "local_places";
+    public static final String PROGRAMS = "programs";
+
+    private final ChangeVersionRepository repository;
+
+    public ChangeVersionService(ChangeVersionRepository repository) {
+        this.repository = repository;
+    }
+
+    public long current(String resource) {
+        return repository.findVersion(resource).orElse(0L);
+    }
+
+    public void bump(String resource) {
+        repository.increment(resource);
+    }
+
+    /**
+     * Bumps and hands the new version to {@code committed} once it is committed (right away outside a
+     * transaction). Lets a service that applied its own write to an in-memory index record that the index
+     * is current with that version, instead of reloading when it next sees the version move.
+     */
+    public void bump(String resource, LongConsumer committed) {
+        long version = repository.incrementAndGet(resource);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            committed.accept(version);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                committed.accept(version);
+            }
+        });
+    }
+}
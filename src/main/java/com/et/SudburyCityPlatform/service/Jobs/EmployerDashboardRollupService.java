@@ -0,0 +1,90 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import com.et.SudburyCityPlatform.models.jobs.ApplicationStatus;
+import com.et.SudburyCityPlatform.models.jobs.DailyStatusCount;
+import com.et.SudburyCityPlatform.models.jobs.Job;
+import com.et.SudburyCityPlatform.models.jobs.JobApplicationRequest;
+import com.et.SudburyCityPlatform.models.jobs.JobStatusCount;
+import com.et.SudburyCityPlatform.repository.Jobs.ApplicationDailyCountRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps the application_daily_counts rollup (employer, job, applied day, current status -> count)
+ * behind the employer dashboard in step with applicantDetails.
+ *
+ * JobService reports each new application and status change; each one is a single upsert. A failed
+ * update is logged and left for the nightly {@link #reconcile()}, which rebuilds the whole table from
+ * applicantDetails and so also absorbs writes made outside these paths.
+ */
+@Slf4j
+@Service
+public class EmployerDashboardRollupService {
+
+    private final ApplicationDailyCountRepository repository;
+
+    public EmployerDashboardRollupService(ApplicationDailyCountRepository repository) {
+        this.repository = repository;
+    }
+
+    public void applicationCreated(JobApplicationRequest application) {
+        add(application, application.getStatus(), 1);
+    }
+
+    public void statusChanged(JobApplicationRequest application, ApplicationStatus previous) {
+        if (previous == application.getStatus()) return;
+        add(application, previous, -1);
+        add(application, application.getStatus(), 1);
+    }
+
+    public void jobDeleted(Long jobId) {
+        repository.deleteByJobId(jobId);
+    }
+
+    public List<JobStatusCount> sumByJobAndStatus(Long employerId) {
+        return repository.sumByJobAndStatusForEmployer(employerId);
+    }
+
+    /** Applications applied on a day in [from, to) that are now in one of the statuses. */
+    public long sum(Long employerId, Collection<ApplicationStatus> statuses, LocalDate from, LocalDate to) {
+        return repository.sumForEmployer(employerId, statuses, from, to);
+    }
+
+    public List<DailyStatusCount> sumByDayAndStatus(Long employerId, LocalDate from) {
+        return repository.sumByDayAndStatusForEmployer(employerId, from);
+    }
+
+    @Scheduled(cron = "${jobs.dashboard.rollup-reconcile-cron:0 30 3 * * *}")
+    @Transactional
+    public void reconcile() {
+        if (!repository.tryLockForRebuild()) {
+            log.info("Employer dashboard rollup rebuild already running on another instance; skipping");
+            return;
+        }
+        long start = System.currentTimeMillis();
+        repository.deleteAllRows();
+        int rows = repository.rebuildAll();
+        log.info("Rebuilt {} employer dashboard rollup rows in {} ms", rows, System.currentTimeMillis() - start);
+    }
+
+    private void add(JobApplicationRequest application, ApplicationStatus status, long delta) {
+        Job job = application.getJob();
+        if (status == null || application.getAppliedAt() == null || job == null
+                || job.getEmployer() == null || job.getEmployer().getId() == null) {
+            return;
+        }
+        try {
+            repository.add(job.getEmployer().getId(), job.getId(),
+                    application.getAppliedAt().toLocalDate(), status.name(), delta);
+        } catch (RuntimeException e) {
+            // The application itself is already saved; the nightly reconcile repairs the count.
+            log.warn("Dashboard rollup update failed for application {}: {}", application.getId(), e.getMessage());
+        }
+    }
+}
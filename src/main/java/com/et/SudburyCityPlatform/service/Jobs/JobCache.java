@@ -0,0 +1,135 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import com.et.SudburyCityPlatform.dto.JobCacheStatsDTO;
+import com.et.SudburyCityPlatform.models.jobs.Job;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for job reads in {@link JobService}: a bounded LRU of jobs by id plus a
+ * bounded LRU of listing pages (the full job list and keyset pages), both with a TTL so writes
+ * made through another instance are picked up.
+ *
+ * Cached jobs are shared, detached instances: only hand them to read-only paths, never to code
+ * that modifies the entity (or its transient matchPercentage). {@link JobService} invalidates on
+ * every job write; a load racing with an invalidation is returned but not cached.
+ */
+@Component
+public class JobCache {
+
+    private final int maxJobs;
+    private final int maxPages;
+    private final long ttlNanos;
+    private final Map<Long, Entry> byId;
+    private final Map<String, Entry> pages;
+
+    // Bumped by every invalidation; a load only fills the cache if no invalidation happened meanwhile.
+    private long generation;
+
+    private final LongAdder jobHits = new LongAdder();
+    private final LongAdder jobMisses = new LongAdder();
+    private final LongAdder pageHits = new LongAdder();
+    private final LongAdder pageMisses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public JobCache(
+            @Value("${jobs.cache.max-jobs:5000}") int maxJobs,
+            @Value("${jobs.cache.max-pages:200}") int maxPages,
+            @Value("${jobs.cache.ttl:PT2M}") Duration ttl) {
+        this.maxJobs = Math.max(1, maxJobs);
+        this.maxPages = Math.max(1, maxPages);
+        this.ttlNanos = ttl.toNanos();
+        this.byId = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                boolean evict = size() > JobCache.this.maxJobs;
+                if (evict) evictions.increment();
+                return evict;
+            }
+        };
+        this.pages = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                boolean evict = size() > JobCache.this.maxPages;
+                if (evict) evictions.increment();
+                return evict;
+            }
+        };
+    }
+
+    public Optional<Job> getJob(Long id, Supplier<Optional<Job>> loader) {
+        long now = System.nanoTime();
+        long gen;
+        synchronized (this) {
+            Entry e = byId.get(id);
+            if (e != null && now - e.loadedAt < ttlNanos) {
+                jobHits.increment();
+                return Optional.of((Job) e.value);
+            }
+            gen = generation;
+        }
+        jobMisses.increment();
+        Optional<Job> loaded = loader.get();
+        loaded.ifPresent(job -> {
+            synchronized (this) {
+                if (gen == generation) byId.put(id, new Entry(job, now));
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * A listing page by key. The loaded value must be immutable (it is shared between requests).
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getPage(String key, Supplier<T> loader) {
+        long now = System.nanoTime();
+        long gen;
+        synchronized (this) {
+            Entry e = pages.get(key);
+            if (e != null && now - e.loadedAt < ttlNanos) {
+                pageHits.increment();
+                return (T) e.value;
+            }
+            gen = generation;
+        }
+        pageMisses.increment();
+        T loaded = loader.get();
+        synchronized (this) {
+            if (gen == generation) pages.put(key, new Entry(loaded, now));
+        }
+        return loaded;
+    }
+
+    /**
+     * A job was created, updated or deleted: drop it and every listing page.
+     */
+    public synchronized void invalidate(Long jobId) {
+        generation++;
+        if (jobId != null) byId.remove(jobId);
+        pages.clear();
+    }
+
+    public JobCacheStatsDTO stats() {
+        int jobEntries;
+        int pageEntries;
+        synchronized (this) {
+            jobEntries = byId.size();
+            pageEntries = pages.size();
+        }
+        return new JobCacheStatsDTO(
+                jobEntries, maxJobs, jobHits.sum(), jobMisses.sum(),
+                pageEntries, maxPages, pageHits.sum(), pageMisses.sum(),
+                evictions.sum(), Duration.ofNanos(ttlNanos).toString());
+    }
+
+    private record Entry(Object value, long loadedAt) {
+    }
+}
@@ -0,0 +1,217 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import com.et.SudburyCityPlatform.dto.JobFacetCountsDTO;
+import com.et.SudburyCityPlatform.models.jobs.Job;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory facet counts over jobs (employment type, type of work, experience range, language,
+ * urgently hiring) for a given filter set, without a {@code GROUP BY} per request.
+ *
+ * Each job is held as a small {@link Entry} of its facet values. Counts are computed once per
+ * distinct filter set and cached; {@link JobService} reports job creates/updates/deletes through
+ * {@link #put(Job)} and {@link #remove(Long)}, which adjust every cached result by the changed
+ * job's contribution instead of discarding them. Jobs written through other instances arrive the same way,
+ * from {@link JobService#catchUpJobIndexes()}.
+ *
+ * Within a facet, selected values are OR-ed; across facets they're AND-ed. A facet's own counts
+ * ignore its own selection (the usual multi-select facet behaviour), so the UI can show how many
+ * jobs each unselected value would add.
+ */
+@Component
+public class JobFacetIndex {
+
+    public enum Facet {
+        EMPLOYMENT_TYPE("employmentType"),
+        TYPE_OF_WORK("typeOfWork"),
+        EXPERIENCE_RANGE("experienceRange"),
+        LANGUAGE("language"),
+        URGENTLY_HIRING("urgentlyHiring");
+
+        private final String key;
+
+        Facet(String key) {
+            this.key = key;
+        }
+
+        public String key() {
+            return key;
+        }
+    }
+
+    private static final Facet[] FACETS = Facet.values();
+    private static final int MAX_CACHED_QUERIES = 256;
+
+    /**
+     * A filter set. {@code selected} holds only facets with at least one selected value.
+     */
+    public record Query(String location, Double minSalary, Map<Facet, Set<String>> selected) {
+
+        public static Query of(String location, Double minSalary, Map<Facet, ? extends Collection<String>> selected) {
+            Map<Facet, Set<String>> clean = new EnumMap<>(Facet.class);
+            selected.forEach((facet, values) -> {
+                if (values == null) return;
+                Set<String> set = new LinkedHashSet<>();
+                for (String v : values) {
+                    String n = normalize(v);
+                    if (n != null) set.add(n);
+                }
+                if (!set.isEmpty()) clean.put(facet, Set.copyOf(set));
+            });
+            return new Query(normalize(location), minSalary, Map.copyOf(clean));
+        }
+
+        boolean matchesBase(Entry e) {
+            if (location != null && !location.equals(e.location)) return false;
+            return minSalary == null || (e.salary != null && e.salary >= minSalary);
+        }
+
+        boolean accepts(Facet facet, String value) {
+            Set<String> set = selected.get(facet);
+            return set == null || (value != null && set.contains(value));
+        }
+    }
+
+    private record Entry(String location, Double salary, String[] values) {
+
+        static Entry of(Job job) {
+            String[] values = new String[FACETS.length];
+            values[Facet.EMPLOYMENT_TYPE.ordinal()] = normalize(job.getEmploymentType());
+            values[Facet.TYPE_OF_WORK.ordinal()] = normalize(job.getTypeOfWork());
+            values[Facet.EXPERIENCE_RANGE.ordinal()] = normalize(job.getExperienceRange());
+            values[Facet.LANGUAGE.ordinal()] = normalize(job.getPreferredLanguage());
+            values[Facet.URGENTLY_HIRING.ordinal()] = String.valueOf(Boolean.TRUE.equals(job.getUrgentlyHiring()));
+            return new Entry(normalize(job.getLocation()), job.getSalary(), values);
+        }
+    }
+
+    private static final class Counts {
+        @SuppressWarnings("unchecked")
+        final Map<String, Integer>[] byFacet = new Map[FACETS.length];
+        int total;
+
+        Counts() {
+            for (int f = 0; f < byFacet.length; f++) {
+                byFacet[f] = new HashMap<>();
+            }
+        }
+    }
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<Query, Counts> cache = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Query, Counts> eldest) {
+            return size() > MAX_CACHED_QUERIES;
+        }
+    };
+    private boolean ready;
+
+    public synchronized boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Replaces the index contents with the given jobs.
+     */
+    public synchronized void warm(List<Job> jobs) {
+        entries.clear();
+        cache.clear();
+        for (Job job : jobs) {
+            if (job.getId() != null) entries.put(job.getId(), Entry.of(job));
+        }
+        ready = true;
+    }
+
+    public synchronized void put(Job job) {
+        if (job.getId() == null) return;
+        Entry entry = Entry.of(job);
+        Entry old = entries.put(job.getId(), entry);
+        for (Map.Entry<Query, Counts> c : cache.entrySet()) {
+            if (old != null) apply(c.getValue(), c.getKey(), old, -1);
+            apply(c.getValue(), c.getKey(), entry, 1);
+        }
+    }
+
+    public synchronized Set<Long> ids() {
+        return Set.copyOf(entries.keySet());
+    }
+
+    public synchronized void remove(Long jobId) {
+        if (jobId == null) return;
+        Entry old = entries.remove(jobId);
+        if (old == null) return;
+        for (Map.Entry<Query, Counts> c : cache.entrySet()) {
+            apply(c.getValue(), c.getKey(), old, -1);
+        }
+    }
+
+    public synchronized JobFacetCountsDTO counts(Query query) {
+        Counts counts = cache.get(query);
+        if (counts == null) {
+            counts = new Counts();
+            for (Entry e : entries.values()) {
+                apply(counts, query, e, 1);
+            }
+            cache.put(query, counts);
+        }
+        return toDto(counts);
+    }
+
+    /**
+     * Adds (delta = 1) or removes (delta = -1) one job's contribution to a cached result.
+     * A job counts towards facet f when it passes every filter except f's own selection.
+     */
+    private static void apply(Counts counts, Query query, Entry e, int delta) {
+        if (!query.matchesBase(e)) return;
+        int rejectedBy = -1;
+        for (int f = 0; f < FACETS.length; f++) {
+            if (!query.accepts(FACETS[f], e.values[f])) {
+                if (rejectedBy >= 0) return;  // fails two facets: counts nowhere
+                rejectedBy = f;
+            }
+        }
+        if (rejectedBy >= 0) {
+            add(counts.byFacet[rejectedBy], e.values[rejectedBy], delta);
+            return;
+        }
+        counts.total += delta;
+        for (int f = 0; f < FACETS.length; f++) {
+            add(counts.byFacet[f], e.values[f], delta);
+        }
+    }
+
+    private static void add(Map<String, Integer> counts, String value, int delta) {
+        if (value == null) return;
+        counts.merge(value, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    private static JobFacetCountsDTO toDto(Counts counts) {
+        Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+        for (Facet facet : FACETS) {
+            List<Map.Entry<String, Integer>> values = new ArrayList<>(counts.byFacet[facet.ordinal()].entrySet());
+            values.sort(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+            Map<String, Integer> ordered = new LinkedHashMap<>();
+            for (Map.Entry<String, Integer> v : values) {
+                ordered.put(v.getKey(), v.getValue());
+            }
+            facets.put(facet.key(), ordered);
+        }
+        return new JobFacetCountsDTO(counts.total, facets);
+    }
+
+    private static String normalize(String s) {
+        if (s == null) return null;
+        String t = s.trim();
+        return t.isEmpty() ? null : t;
+    }
+}
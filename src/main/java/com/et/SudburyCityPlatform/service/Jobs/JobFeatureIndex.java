@@ -0,0 +1,85 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import com.et.SudburyCityPlatform.models.jobs.Job;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory cache of {@link JobFeatures} keyed by job id.
+ *
+ * Entries are refreshed by {@link JobService} on create/update and dropped on delete.
+ * Reads also compare the job's updatedAt (a field compare, no hashing of the posting text), so a
+ * row changed outside this instance is re-derived instead of being scored with stale features.
+ * Every change is mirrored into the {@link JobTermIndex} posting lists.
+ */
+@Component
+public class JobFeatureIndex {
+
+    private final Map<Long, JobFeatures> byJobId = new ConcurrentHashMap<>();
+    private final JobTermIndex termIndex;
+
+    public JobFeatureIndex(JobTermIndex termIndex) {
+        this.termIndex = termIndex;
+    }
+
+    public JobFeatures get(Job job) {
+        if (job.getId() == null) {
+            return JobFeatures.of(job);
+        }
+        JobFeatures cached = byJobId.get(job.getId());
+        if (cached != null && Objects.equals(cached.updatedAt(), job.getUpdatedAt())) {
+            return cached;
+        }
+        return refresh(job);
+    }
+
+    public JobFeatures refresh(Job job) {
+        JobFeatures features = JobFeatures.of(job);
+        if (job.getId() != null) {
+            byJobId.put(job.getId(), features);
+            termIndex.put(job.getId(), features.indexTerms());
+        }
+        return features;
+    }
+
+    /**
+     * Call before loading the jobs passed to {@link #warm}, so refreshes and removals made while they
+     * load aren't undone by the older snapshot.
+     */
+    public void beginWarm() {
+        termIndex.beginSnapshot();
+    }
+
+    /**
+     * Computes features for every given job and bulk-loads the term index from them. Jobs missing from
+     * the list are dropped from both.
+     */
+    public void warm(List<Job> jobs) {
+        Map<Long, Set<String>> terms = new HashMap<>();
+        for (Job job : jobs) {
+            if (job.getId() == null) continue;
+            JobFeatures features = JobFeatures.of(job);
+            byJobId.put(job.getId(), features);
+            terms.put(job.getId(), features.indexTerms());
+        }
+        termIndex.rebuild(terms);
+        byJobId.keySet().removeIf(id -> !termIndex.contains(id));
+    }
+
+    public void remove(Long jobId) {
+        if (jobId != null) {
+            byJobId.remove(jobId);
+            termIndex.remove(jobId);
+        }
+    }
+
+    public int size() {
+        return byJobId.size();
+    }
+}
@@ -0,0 +1,155 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import com.et.SudburyCityPlatform.models.jobs.Job;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Match-relevant view of a {@link Job}, computed once per job so scoring does not
+ * re-normalize and re-tokenize the posting text on every request.
+ *
+ * @param jobId          job id (null for unsaved jobs)
+ * @param updatedAt      the job's updatedAt when these were derived; used to detect stale entries
+ * @param text           normalized role + requirements + description, padded with spaces
+ * @param keyTerms       interned key terms (3+ chars, no stop words)
+ * @param indexTerms     keyTerms plus short tokens such as "go", "qa", "c#" or "r"; what the term indexes
+ *                       match skills against, since short skills are common and used to match as substrings
+ * @param experienceMin  minimum years parsed from experienceRange, or null when unknown
+ * @param role           lower-cased role
+ * @param roleWords      whitespace-separated words of the lower-cased role (for title overlap)
+ * @param location       lower-cased location
+ * @param locationHead   lower-cased first comma-separated part of the location (e.g. the city)
+ * @param employmentType lower-cased employment type
+ */
+public record JobFeatures(
+        Long jobId,
+        LocalDateTime updatedAt,
+        String text,
+        Set<String> keyTerms,
+        Set<String> indexTerms,
+        Integer experienceMin,
+        String role,
+        List<String> roleWords,
+        String location,
+        String locationHead,
+        String employmentType
+) {
+
+    /**
+     * Words that carry no matching signal in job postings.
+     */
+    static final Set<String> STOP_WORDS = Set.of(
+            "the", "and", "for", "with", "this", "that", "from", "have", "has", "been", "will", "can",
+            "your", "you", "are", "was", "were", "our", "not", "but", "they", "their", "would", "could",
+            "should", "about", "into", "more", "other", "some", "than", "when", "which", "while", "them",
+            "then", "these", "what", "where", "who", "how", "all", "each", "every", "both", "few", "most",
+            "such", "only", "own", "same", "too", "very", "just", "also", "must", "may", "need", "able",
+            "applicant", "candidate", "position", "role", "required", "requirements", "preferred", "experience"
+    );
+
+    /**
+     * Short function words left out of {@link #indexTerms}.
+     */
+    static final Set<String> SHORT_STOP_WORDS = Set.of(
+            "a", "an", "as", "at", "be", "by", "do", "if", "in", "is", "it", "of", "on", "or", "so", "to", "up",
+            "us", "we"
+    );
+
+    public static JobFeatures of(Job job) {
+        String role = job.getRole() == null ? "" : job.getRole();
+        String requirements = job.getRequirements() == null ? "" : job.getRequirements();
+        String description = job.getDescription() == null ? "" : job.getDescription();
+        String location = (job.getLocation() != null ? job.getLocation() : "").toLowerCase();
+
+        // One pass over the posting gives both the normalized text and the key terms.
+        TextTokenizer tokens = TextTokenizer.local().words(role).words(requirements).words(description);
+        String text = tokens.joined(true);
+        Set<String> keyTerms = keyTerms(tokens);
+        Set<String> indexTerms = indexTerms(tokens, keyTerms);
+
+        String lowerRole = role.toLowerCase();
+        List<String> roleWords = List.copyOf(TextTokenizer.local().whitespace(lowerRole).terms());
+
+        return new JobFeatures(
+                job.getId(),
+                job.getUpdatedAt(),
+                text,
+                keyTerms,
+                indexTerms,
+                parseExperienceMin(job.getExperienceRange()),
+                lowerRole,
+                roleWords,
+                location,
+                locationHead(location),
+                (job.getEmploymentType() != null ? job.getEmploymentType() : "").toLowerCase()
+        );
+    }
+
+    private static String locationHead(String location) {
+        int comma = location.indexOf(',');
+        return (comma >= 0 ? location.substring(0, comma) : location).trim();
+    }
+
+    /**
+     * Lower-cased words of {@code s} joined by single spaces and padded with a space on both
+     * sides, so whole-word lookups can search for " word ".
+     */
+    static String normalizeText(String s) {
+        if (s == null) return "";
+        return TextTokenizer.local().words(s).joined(true);
+    }
+
+    /**
+     * Tokenizes job text, filters stop words and keeps meaningful 3+ char terms.
+     * Terms come from {@link TermDictionary}, so postings share one instance per distinct word.
+     */
+    static Set<String> extractKeyTerms(String rawText) {
+        return keyTerms(TextTokenizer.local().words(rawText));
+    }
+
+    private static Set<String> keyTerms(TextTokenizer tokens) {
+        Set<String> terms = new HashSet<>();
+        for (int i = 0; i < tokens.count(); i++) {
+            if (tokens.length(i) < 3) continue;
+            String w = tokens.term(i);
+            if (!STOP_WORDS.contains(w)) terms.add(w);
+        }
+        return Set.copyOf(terms);
+    }
+
+    private static Set<String> indexTerms(TextTokenizer tokens, Set<String> keyTerms) {
+        Set<String> terms = new HashSet<>(keyTerms);
+        for (int i = 0; i < tokens.count(); i++) {
+            if (tokens.length(i) >= 3) continue;
+            String w = tokens.term(i);
+            if (!SHORT_STOP_WORDS.contains(w)) terms.add(w);
+        }
+        return terms.size() == keyTerms.size() ? keyTerms : Set.copyOf(terms);
+    }
+
+    /**
+     * Parses "1-2", "3-5", "5+" style ranges into the minimum years required.
+     * Returns null when the range is missing or not in a recognised format.
+     */
+    static Integer parseExperienceMin(String experienceRange) {
+        if (experienceRange == null || experienceRange.isBlank()) return null;
+        String r = experienceRange.trim().toLowerCase();
+        try {
+            if (r.endsWith("+")) {
+                return Integer.parseInt(r.substring(0, r.length() - 1).trim());
+            }
+            if (r.contains("-")) {
+                String[] parts = r.split("-");
+                int min = Integer.parseInt(parts[0].trim());
+                Integer.parseInt(parts[1].trim()); // max must be numeric for the range to count
+                return min;
+            }
+        } catch (Exception ignored) {
+            // fall through
+        }
+        return null;
+    }
+}
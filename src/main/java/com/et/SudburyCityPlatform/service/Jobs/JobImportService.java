@@ -0,0 +1,381 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import com.et.SudburyCityPlatform.dto.EmployerJobPostRequestDTO;
+import com.et.SudburyCityPlatform.dto.JobImportStatusDTO;
+import com.et.SudburyCityPlatform.exception.BadRequestException;
+import com.et.SudburyCityPlatform.exception.ConflictException;
+import com.et.SudburyCityPlatform.exception.ResourceNotFoundException;
+import com.et.SudburyCityPlatform.models.jobs.Job;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Asynchronous bulk job import for employers posting many listings at once.
+ *
+ * {@link #submitJson}/{@link #submitCsv} only register the import and hand it to a small worker pool, so
+ * the HTTP request returns right away with an import id. The worker parses the payload into
+ * {@link EmployerJobPostRequestDTO}s, validates each row, and inserts the valid ones in chunks of
+ * {@code jobs.import.chunk-size}, one transaction (and JDBC batch) per chunk. When a chunk fails, its rows
+ * are retried one by one so the failure is reported against the offending row only.
+ *
+ * Progress is kept in memory on the instance that accepted the import and dropped
+ * {@code jobs.import.retention} after it finished; poll {@link #status} on the same instance.
+ */
+@Slf4j
+@Service
+public class JobImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 500;
+
+    private final JobService jobService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+    private final int maxRows;
+    private final Duration retention;
+    private final ThreadPoolExecutor pool;
+    private final Map<String, ImportRun> runs = new ConcurrentHashMap<>();
+
+    public JobImportService(JobService jobService,
+                            ObjectMapper objectMapper,
+                            Validator validator,
+                            @Value("${jobs.import.threads:2}") int threads,
+                            @Value("${jobs.import.queue-capacity:20}") int queueCapacity,
+                            @Value("${jobs.import.chunk-size:100}") int chunkSize,
+                            @Value("${jobs.import.max-rows:5000}") int maxRows,
+                            @Value("${jobs.import.retention:PT1H}") Duration retention) {
+        this.jobService = jobService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxRows = Math.max(1, maxRows);
+        this.retention = retention;
+        int n = Math.max(1, threads);
+        AtomicInteger counter = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(n, n, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+                    Thread t = new Thread(r, "job-import-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+    }
+
+    /**
+     * Queues an import of a JSON array of job posts.
+     */
+    public JobImportStatusDTO submitJson(Long employerId, JsonNode body) {
+        if (body == null || !body.isArray()) {
+            throw new BadRequestException("Expected a JSON array of jobs");
+        }
+        checkSize(body.size());
+        return submit(employerId, () -> {
+            List<Row> rows = new ArrayList<>(body.size());
+            for (JsonNode node : body) {
+                rows.add(() -> objectMapper.treeToValue(node, EmployerJobPostRequestDTO.class));
+            }
+            return rows;
+        });
+    }
+
+    /**
+     * Queues an import of CSV text: a header row with {@link EmployerJobPostRequestDTO} property names
+     * (e.g. role, companyName, jobLocation, salaryMin), then one job per row. Empty cells are null.
+     */
+    public JobImportStatusDTO submitCsv(Long employerId, String csv) {
+        if (csv == null || csv.isBlank()) {
+            throw new BadRequestException("CSV body is required");
+        }
+        return submit(employerId, () -> {
+            List<List<String>> records = parseCsv(csv);
+            if (records.isEmpty()) return List.of();
+            List<String> header = records.get(0).stream().map(String::trim).toList();
+            List<Row> rows = new ArrayList<>(records.size() - 1);
+            for (List<String> record : records.subList(1, records.size())) {
+                rows.add(() -> {
+                    if (record.size() > header.size()) {
+                        throw new IllegalArgumentException("Row has more cells than the header");
+                    }
+                    Map<String, String> values = new HashMap<>();
+                    for (int i = 0; i < record.size(); i++) {
+                        String cell = record.get(i).trim();
+                        if (!cell.isEmpty()) values.put(header.get(i), cell);
+                    }
+                    return objectMapper.convertValue(values, EmployerJobPostRequestDTO.class);
+                });
+            }
+            return rows;
+        });
+    }
+
+    /**
+     * Progress of an import started by the same employer.
+     */
+    public JobImportStatusDTO status(Long employerId, String importId) {
+        purgeExpired();
+        ImportRun run = runs.get(importId);
+        if (run == null || !run.employerId.equals(employerId)) {
+            throw new ResourceNotFoundException("Import not found");
+        }
+        return run.snapshot();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private void checkSize(int rows) {
+        if (rows > maxRows) {
+            throw new BadRequestException("At most " + maxRows + " jobs per import");
+        }
+    }
+
+    private JobImportStatusDTO submit(Long employerId, Supplier<List<Row>> parser) {
+        purgeExpired();
+        ImportRun run = new ImportRun(UUID.randomUUID().toString(), employerId);
+        runs.put(run.id, run);
+        try {
+            pool.execute(() -> execute(run, parser));
+        } catch (RejectedExecutionException e) {
+            runs.remove(run.id);
+            throw new ConflictException("Too many imports in progress, try again later");
+        }
+        return run.snapshot();
+    }
+
+    private void execute(ImportRun run, Supplier<List<Row>> parser) {
+        run.start();
+        try {
+            List<Row> rows = parser.get();
+            if (rows.size() > maxRows) {
+                throw new IllegalArgumentException("At most " + maxRows + " jobs per import");
+            }
+            run.total = rows.size();
+
+            List<EmployerJobPostRequestDTO> chunk = new ArrayList<>(chunkSize);
+            List<Integer> chunkRows = new ArrayList<>(chunkSize);
+            for (int i = 0; i < rows.size(); i++) {
+                int rowNumber = i + 1;
+                EmployerJobPostRequestDTO dto;
+                try {
+                    dto = rows.get(i).read();
+                } catch (Exception e) {
+                    run.rowFailed(rowNumber, describe(e));
+                    continue;
+                }
+                String invalid = validate(dto);
+                if (invalid != null) {
+                    run.rowFailed(rowNumber, invalid);
+                    continue;
+                }
+                chunk.add(dto);
+                chunkRows.add(rowNumber);
+                if (chunk.size() == chunkSize) {
+                    insert(run, chunk, chunkRows);
+                    chunk.clear();
+                    chunkRows.clear();
+                }
+            }
+            if (!chunk.isEmpty()) insert(run, chunk, chunkRows);
+            run.finish(JobImportStatusDTO.State.COMPLETED, null);
+        } catch (Exception e) {
+            log.warn("Job import {} failed: {}", run.id, e.getMessage());
+            run.finish(JobImportStatusDTO.State.FAILED, describe(e));
+        }
+        log.info("Job import {} for employer {}: {} imported, {} failed",
+                run.id, run.employerId, run.imported.get(), run.failed.get());
+    }
+
+    private void insert(ImportRun run, List<EmployerJobPostRequestDTO> chunk, List<Integer> chunkRows) {
+        List<Job> saved = new ArrayList<>(chunk.size());
+        try {
+            saved.addAll(jobService.insertJobsForEmployer(run.employerId, chunk));
+        } catch (Exception chunkError) {
+            // The chunk's transaction rolled back: pinpoint the failing rows, the rest of the chunk still goes in.
+            for (int i = 0; i < chunk.size(); i++) {
+                try {
+                    saved.addAll(jobService.insertJobsForEmployer(run.employerId, List.of(chunk.get(i))));
+                } catch (Exception e) {
+                    run.rowFailed(chunkRows.get(i), describe(e));
+                }
+            }
+        }
+        run.rowsImported(saved.size());
+        // Rows are committed at this point; a failure here must never lead to inserting them again.
+        try {
+            jobService.jobsCreated(saved);
+        } catch (Exception e) {
+            log.warn("Job import {}: indexing {} imported jobs failed: {}", run.id, saved.size(), e.getMessage());
+        }
+    }
+
+    private String validate(EmployerJobPostRequestDTO dto) {
+        if (dto == null) return "Empty row";
+        var violations = validator.validate(dto);
+        if (violations.isEmpty()) return null;
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private static String describe(Exception e) {
+        if (e instanceof JsonMappingException m) return m.getOriginalMessage();
+        if (e.getCause() instanceof JsonMappingException m) return m.getOriginalMessage();
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) root = root.getCause();
+        return root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+    }
+
+    private void purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        runs.values().removeIf(run -> run.finishedAt != null && run.finishedAt.isBefore(cutoff));
+    }
+
+    /**
+     * RFC 4180 CSV: comma separated, double-quoted cells may contain commas, quotes ("") and line breaks.
+     * Blank lines are skipped.
+     */
+    static List<List<String>> parseCsv(String text) {
+        List<List<String>> records = new ArrayList<>();
+        List<String> record = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        boolean rowHasContent = false;
+        int start = !text.isEmpty() && text.charAt(0) == '\uFEFF' ? 1 : 0;
+        for (int i = start; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                        cell.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+                rowHasContent = true;
+            } else if (c == ',') {
+                record.add(cell.toString());
+                cell.setLength(0);
+                rowHasContent = true;
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && i + 1 < text.length() && text.charAt(i + 1) == '\n') i++;
+                if (rowHasContent || cell.length() > 0) {
+                    record.add(cell.toString());
+                    records.add(record);
+                }
+                record = new ArrayList<>();
+                cell.setLength(0);
+                rowHasContent = false;
+            } else {
+                cell.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted CSV cell");
+        }
+        if (rowHasContent || cell.length() > 0) {
+            record.add(cell.toString());
+            records.add(record);
+        }
+        return records;
+    }
+
+    /** One not-yet-converted input row; conversion errors become that row's error. */
+    @FunctionalInterface
+    private interface Row {
+        EmployerJobPostRequestDTO read() throws Exception;
+    }
+
+    private static final class ImportRun {
+        final String id;
+        final Long employerId;
+        final LocalDateTime submittedAt = LocalDateTime.now();
+        final AtomicInteger imported = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        final List<JobImportStatusDTO.RowError> errors = new ArrayList<>();
+        volatile int total;
+        volatile JobImportStatusDTO.State state = JobImportStatusDTO.State.QUEUED;
+        volatile LocalDateTime startedAt;
+        volatile LocalDateTime finishedAt;
+        volatile long startedNanos;
+        volatile long finishedNanos;
+
+        ImportRun(String id, Long employerId) {
+            this.id = id;
+            this.employerId = employerId;
+        }
+
+        void start() {
+            startedAt = LocalDateTime.now();
+            startedNanos = System.nanoTime();
+            state = JobImportStatusDTO.State.RUNNING;
+        }
+
+        void rowsImported(int n) {
+            imported.addAndGet(n);
+        }
+
+        void rowFailed(int row, String message) {
+            failed.incrementAndGet();
+            synchronized (errors) {
+                if (errors.size() < MAX_REPORTED_ERRORS) errors.add(new JobImportStatusDTO.RowError(row, message));
+            }
+        }
+
+        void finish(JobImportStatusDTO.State end, String error) {
+            if (error != null) {
+                synchronized (errors) {
+                    errors.add(new JobImportStatusDTO.RowError(0, error));
+                }
+            }
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+            state = end;
+        }
+
+        JobImportStatusDTO snapshot() {
+            int ok = imported.get();
+            int bad = failed.get();
+            List<JobImportStatusDTO.RowError> reported;
+            synchronized (errors) {
+                reported = List.copyOf(errors);
+            }
+            double rate = 0.0;
+            if (startedAt != null) {
+                long end = finishedAt != null ? finishedNanos : System.nanoTime();
+                double seconds = (end - startedNanos) / 1_000_000_000.0;
+                rate = seconds > 0 ? Math.round((ok + bad) / seconds * 10.0) / 10.0 : 0.0;
+            }
+            return new JobImportStatusDTO(id, state, total, ok + bad, ok, bad,
+                    reported, bad > MAX_REPORTED_ERRORS, submittedAt, startedAt, finishedAt, rate);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import com.et.SudburyCityPlatform.dto.JobMatchDTO;
+import com.et.SudburyCityPlatform.models.jobs.Job;
+import com.et.SudburyCityPlatform.models.jobs.JobMatchScore;
+import com.et.SudburyCityPlatform.models.jobs.JobScoreSum;
+import com.et.SudburyCityPlatform.models.jobs.ScoringProfile;
+import com.et.SudburyCityPlatform.models.jobs.StoredMatchScore;
+import com.et.SudburyCityPlatform.repository.Jobs.JobApplicationRepository;
+import com.et.SudburyCityPlatform.repository.Jobs.JobMatchScoreRepository;
+import com.et.SudburyCityPlatform.repository.Jobs.JobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Maintains the materialized {@code job_match_scores} table.
+ *
+ * Reads only return rows computed by the current {@link #ALGORITHM_VERSION}. Writes happen on a
+ * single background worker: a job or profile change deletes its rows right away (so stale scores
+ * are never served) and queues a recompute; callers that miss a row score live and ask for the job
+ * to be materialized. Queued work is keyed, so repeated changes to the same job/profile coalesce.
+ */
+@Slf4j
+@Service
+public class JobMatchScoreService {
+
+    /**
+     * Bump whenever the scoring in {@link JobService#scoreJob(SeekerMatchVector, JobFeatures, Job)} changes.
+     * Rows written by another version are ignored on read and purged on startup.
+     */
+    public static final int ALGORITHM_VERSION = 1;
+
+    private final JobMatchScoreRepository scoreRepository;
+    private final JobRepository jobRepository;
+    private final JobApplicationRepository applicationRepository;
+    private final ProfileBatchLoader profileBatchLoader;
+    private final JobFeatureIndex jobFeatureIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "match-score-worker");
+        t.setDaemon(true);
+        return t;
+    });
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public JobMatchScoreService(JobMatchScoreRepository scoreRepository,
+                                JobRepository jobRepository,
+                                JobApplicationRepository applicationRepository,
+                                ProfileBatchLoader profileBatchLoader,
+                                JobFeatureIndex jobFeatureIndex,
+                                PlatformTransactionManager transactionManager) {
+        this.scoreRepository = scoreRepository;
+        this.jobRepository = jobRepository;
+        this.applicationRepository = applicationRepository;
+        this.profileBatchLoader = profileBatchLoader;
+        this.jobFeatureIndex = jobFeatureIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void purgeOutdatedScores() {
+        try {
+            int purged = scoreRepository.deleteByVersionNot(ALGORITHM_VERSION);
+            if (purged > 0) log.info("Purged {} match scores from older algorithm versions", purged);
+        } catch (Exception e) {
+            log.warn("Match score purge failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Stored scores for the given jobs: jobId -> (lower-cased applicant email -> match %).
+     */
+    public Map<Long, Map<String, Integer>> currentScores(Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) return Map.of();
+        Map<Long, Map<String, Integer>> out = new HashMap<>();
+        for (StoredMatchScore s : scoreRepository.findCurrentScores(jobIds, ALGORITHM_VERSION)) {
+            if (s.getEmail() == null) continue;
+            out.computeIfAbsent(s.getJobId(), k -> new HashMap<>()).putIfAbsent(s.getEmail(), s.getScore());
+        }
+        return out;
+    }
+
+    /**
+     * Stored scores of the applicants of an employer's jobs, aggregated in the database:
+     * jobId -> {sum of scores, number of scored applications}.
+     */
+    public Map<Long, long[]> applicantScoreSums(Long employerId) {
+        Map<Long, long[]> out = new HashMap<>();
+        for (JobScoreSum s : scoreRepository.sumApplicantScoresForEmployer(employerId, ALGORITHM_VERSION)) {
+            out.put(s.getJobId(), new long[]{s.getScoreSum(), s.getScored()});
+        }
+        return out;
+    }
+
+    /**
+     * Job text changed: drop its scores now and rescore its applicants in the background.
+     */
+    public void jobChanged(Long jobId) {
+        if (jobId == null) return;
+        scoreRepository.deleteByJobId(jobId);
+        submitAfterCommit("job:" + jobId, () -> recomputeJob(jobId));
+    }
+
+    public void jobDeleted(Long jobId) {
+        if (jobId == null) return;
+        scoreRepository.deleteByJobId(jobId);
+    }
+
+    /**
+     * Profile changed: drop its scores now and rescore it against every job it applied to.
+     */
+    public void profileChanged(Long profileId) {
+        if (profileId == null) return;
+        scoreRepository.deleteByProfileId(profileId);
+        submitAfterCommit("profile:" + profileId, () -> recomputeProfile(profileId));
+    }
+
+    /**
+     * New application: materialize the score of that one (job, applicant) pair.
+     */
+    public void applicationCreated(Long jobId, String email) {
+        if (jobId == null || email == null || email.isBlank()) return;
+        String normalized = email.trim().toLowerCase();
+        submitAfterCommit("pair:" + jobId + ":" + normalized, () -> recomputePair(jobId, normalized));
+    }
+
+    /**
+     * A reader found applicants of this job without a stored score.
+     */
+    public void refreshJob(Long jobId) {
+        if (jobId == null) return;
+        submitAfterCommit("job:" + jobId, () -> recomputeJob(jobId));
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        worker.shutdown();
+        worker.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void submitAfterCommit(String key, Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // The worker must see the committed row, not the one still in flight.
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(key, task);
+                }
+            });
+        } else {
+            submit(key, task);
+        }
+    }
+
+    private void submit(String key, Runnable task) {
+        if (!pending.add(key)) return;  // already queued; it will read the latest state when it runs
+        try {
+            worker.execute(() -> {
+                // Cleared before running so a change made while this runs queues another pass.
+                pending.remove(key);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> task.run());
+                } catch (Exception e) {
+                    log.warn("Match score recompute {} failed: {}", key, e.getMessage());
+                }
+            });
+        } catch (RuntimeException e) {
+            pending.remove(key);
+            log.debug("Match score recompute {} not queued: {}", key, e.getMessage());
+        }
+    }
+
+    private void recomputeJob(Long jobId) {
+        Job job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) return;
+        List<String> emails = applicationRepository.findApplicantEmailsByJobId(jobId);
+        if (emails.isEmpty()) return;
+        store(job, profileBatchLoader.byEmails(emails));
+    }
+
+    private void recomputeProfile(Long profileId) {
+        ScoringProfile profile = profileBatchLoader.byIds(List.of(profileId)).stream().findFirst().orElse(null);
+        if (profile == null || profile.email() == null || profile.email().isBlank()) return;
+        List<Long> jobIds = applicationRepository.findJobIdsByApplicantEmail(profile.email().trim());
+        for (Job job : jobRepository.findAllById(jobIds)) {
+            store(job, List.of(profile));
+        }
+    }
+
+    private void recomputePair(Long jobId, String email) {
+        Job job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) return;
+        store(job, profileBatchLoader.byEmails(List.of(email)));
+    }
+
+    private void store(Job job, List<ScoringProfile> profiles) {
+        if (profiles.isEmpty()) return;
+        JobFeatures features = jobFeatureIndex.get(job);
+        List<Long> profileIds = profiles.stream().map(ScoringProfile::id).filter(id -> id != null).toList();
+        Map<Long, JobMatchScore> existing = new HashMap<>();
+        for (JobMatchScore s : scoreRepository.findByJobIdAndProfileIdIn(job.getId(), profileIds)) {
+            existing.put(s.getProfileId(), s);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<JobMatchScore> rows = new ArrayList<>(profiles.size());
+        for (ScoringProfile profile : profiles) {
+            if (profile.id() == null) continue;
+            // Built fresh rather than read from SeekerMatchVectorCache: a stored score outlives any cache TTL.
+            JobMatchDTO match = JobService.scoreJob(SeekerMatchVector.of(profile), features, null);
+            JobMatchScore row = existing.get(profile.id());
+            if (row == null) {
+                row = new JobMatchScore();
+                row.setJobId(job.getId());
+                row.setProfileId(profile.id());
+            }
+            row.setScore(match.getMatchPercentage());
+            row.setSkillPct(match.getSkillMatchPercentage());
+            row.setExpPct(match.getExperienceMatchPercentage());
+            row.setVersion(ALGORITHM_VERSION);
+            row.setComputedAt(now);
+            rows.add(row);
+        }
+        scoreRepository.saveAll(rows);
+    }
+}
@@ -0,0 +1,87 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Dedicated fork-join pool for bulk match scoring.
+ *
+ * Batches smaller than {@code matching.scoring.parallel-threshold} are scored on the calling
+ * thread; larger ones are split across cores. The scorer must be pure: it may only read
+ * precomputed {@link SeekerMatchVector}/{@link JobFeatures} (no JPA entities or lazy loading).
+ */
+@Slf4j
+@Component
+public class JobScoringExecutor {
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    public JobScoringExecutor(
+            @Value("${matching.scoring.parallelism:0}") int parallelism,
+            @Value("${matching.scoring.parallel-threshold:512}") int threshold) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.pool = new ForkJoinPool(threads, p -> {
+            var worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+            worker.setName("job-scoring-" + worker.getPoolIndex());
+            return worker;
+        }, null, false);
+        this.threshold = Math.max(1, threshold);
+        log.info("Job scoring pool: {} threads, parallel threshold {}", threads, this.threshold);
+    }
+
+    /**
+     * Returns {@code scorer.applyAsInt(i)} for every i in [0, n).
+     */
+    public int[] scoreAll(int n, IntUnaryOperator scorer) {
+        int[] out = new int[n];
+        if (n < threshold || pool.getParallelism() <= 1) {
+            for (int i = 0; i < n; i++) out[i] = scorer.applyAsInt(i);
+            return out;
+        }
+        // ~4 chunks per thread keeps workers busy when some jobs have much longer text than others.
+        int leaf = Math.max(64, n / (pool.getParallelism() * 4));
+        pool.invoke(new ScoreTask(scorer, out, 0, n, leaf));
+        return out;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private static final class ScoreTask extends RecursiveAction {
+        private final IntUnaryOperator scorer;
+        private final int[] out;
+        private final int from;
+        private final int to;
+        private final int leaf;
+
+        ScoreTask(IntUnaryOperator scorer, int[] out, int from, int to, int leaf) {
+            this.scorer = scorer;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+            this.leaf = leaf;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= leaf) {
+                for (int i = from; i < to; i++) out[i] = scorer.applyAsInt(i);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                    new ScoreTask(scorer, out, from, mid, leaf),
+                    new ScoreTask(scorer, out, mid, to, leaf)
+            );
+        }
+    }
+}
@@ -4,21 +4,43 @@ import com.et.SudburyCityPlatform.dto.*;
 import com.et.SudburyCityPlatform.exception.ResourceNotFoundException;
 import com.et.SudburyCityPlatform.models.jobs.*;
 import com.et.SudburyCityPlatform.repository.Jobs.JobSeekerProfileRepository;
+import com.et.SudburyCityPlatform.service.ChangeVersionService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 public class JobSeekerProfileService {
 
     private final JobSeekerProfileRepository repo;
-
-    public JobSeekerProfileService(JobSeekerProfileRepository repo) {
+    private final SeekerMatchVectorCache seekerMatchVectorCache;
+    private final JobMatchScoreService jobMatchScoreService;
+    private final ProfileSkillIndex profileSkillIndex;
+    private final ChangeVersionService changeVersionService;
+
+    public JobSeekerProfileService(JobSeekerProfileRepository repo,
+                                   SeekerMatchVectorCache seekerMatchVectorCache,
+                                   JobMatchScoreService jobMatchScoreService,
+                                   ProfileSkillIndex profileSkillIndex,
+                                   ChangeVersionService changeVersionService) {
         this.repo = repo;
+        this.seekerMatchVectorCache = seekerMatchVectorCache;
+        this.jobMatchScoreService = jobMatchScoreService;
+        this.profileSkillIndex = profileSkillIndex;
+        this.changeVersionService = changeVersionService;
     }
 
     @Transactional
@@ -28,6 +50,10 @@ public class JobSeekerProfileService {
         // Flush first so user_profiles row exists (ID assigned) before inserting children.
         JobSeekerProfile saved = repo.saveAndFlush(p);
         applyDetails(dto, saved);
+        invalidateVectorAfterCommit(saved.getId());
+        jobMatchScoreService.profileChanged(saved.getId());
+        profileSkillIndex.update(saved);
+        changeVersionService.bump(ChangeVersionService.JOB_SEEKER_PROFILES, profileSkillIndex::savedLocally);
         return repo.save(saved);
     }
 
@@ -41,6 +67,10 @@ public class JobSeekerProfileService {
         applyBasicInfo(email, dto, p);
         JobSeekerProfile saved = repo.saveAndFlush(p);
         applyDetails(dto, saved);
+        invalidateVectorAfterCommit(saved.getId());
+        jobMatchScoreService.profileChanged(saved.getId());
+        profileSkillIndex.update(saved);
+        changeVersionService.bump(ChangeVersionService.JOB_SEEKER_PROFILES, profileSkillIndex::savedLocally);
         return repo.save(saved);
     }
 
@@ -51,8 +81,26 @@ public class JobSeekerProfileService {
         return repo.findAll();
     }
 
+    /**
+     * Evicts the cached match vector once the save is visible: evicting earlier lets a concurrent read
+     * re-cache the old profile for the whole TTL.
+     */
+    private void invalidateVectorAfterCommit(Long profileId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            seekerMatchVectorCache.invalidate(profileId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                seekerMatchVectorCache.invalidate(profileId);
+            }
+        });
+    }
+
     private void applyBasicInfo(String email, ProfileRequestDTO dto, JobSeekerProfile p) {
         p.setEmail(email);
+        p.setChangedAt(LocalDateTime.now());
 
         if (dto.getBasicInfo() != null) {
             p.setFullName(dto.getBasicInfo().getName());
@@ -63,68 +111,55 @@ public class JobSeekerProfileService {
         if (p.getFullName() == null) p.setFullName("");
     }
 
+    /**
+     * Merges the DTO's details into the profile so a save writes only what changed: list items are matched
+     * to existing rows by natural key (see {@link #mergeChildren}) and element collections are only
+     * replaced when their content differs, since Hibernate rewrites a replaced collection in full.
+     */
     private void applyDetails(ProfileRequestDTO dto, JobSeekerProfile p) {
-        p.setSkills(dto.getSkills() != null ? dto.getSkills() : Collections.emptyList());
-        p.setPrimarySkills(dto.getPrimarySkills() != null ? dto.getPrimarySkills() : Collections.emptyList());
-        p.setBasicSkills(dto.getBasicSkills() != null ? dto.getBasicSkills() : Collections.emptyList());
-
-        // Clear and set one-to-many collections
-        if (p.getEducation() != null) p.getEducation().clear();
-        else p.setEducation(new ArrayList<>());
-        if (dto.getEducation() != null) {
-            for (EducationDTO ed : dto.getEducation()) {
-                Education e = mapEducation(ed, p);
-                p.getEducation().add(e);
-            }
-        }
-
-        if (p.getWorkExperience() != null) p.getWorkExperience().clear();
-        else p.setWorkExperience(new ArrayList<>());
-        if (dto.getWorkExperience() != null) {
-            for (WorkExperienceDTO we : dto.getWorkExperience()) {
-                p.getWorkExperience().add(mapWorkExperience(we, p));
-            }
-        }
-
-        if (p.getProjects() != null) p.getProjects().clear();
-        else p.setProjects(new ArrayList<>());
-        if (dto.getProjects() != null) {
-            for (ProjectDTO pd : dto.getProjects()) {
-                p.getProjects().add(mapProject(pd, p));
-            }
-        }
-
-        if (p.getAchievements() != null) p.getAchievements().clear();
-        else p.setAchievements(new ArrayList<>());
-        if (dto.getAchievements() != null) {
-            for (AchievementDTO ad : dto.getAchievements()) {
-                p.getAchievements().add(mapAchievement(ad, p));
-            }
-        }
-
-        if (p.getCertifications() != null) p.getCertifications().clear();
-        else p.setCertifications(new ArrayList<>());
-        if (dto.getCertification() != null) {
-            for (CertificationDTO cd : dto.getCertification()) {
-                p.getCertifications().add(mapCertification(cd, p));
-            }
-        }
-
-        if (p.getLanguages() != null) p.getLanguages().clear();
-        else p.setLanguages(new ArrayList<>());
-        if (dto.getOtherDetails() != null && dto.getOtherDetails().getLanguages() != null) {
-            for (LanguageProficiencyDTO ld : dto.getOtherDetails().getLanguages()) {
-                p.getLanguages().add(mapLanguageProficiency(ld, p));
-            }
-        }
+        p.setSkills(replaceIfChanged(p.getSkills(), dto.getSkills()));
+        p.setPrimarySkills(replaceIfChanged(p.getPrimarySkills(), dto.getPrimarySkills()));
+        p.setBasicSkills(replaceIfChanged(p.getBasicSkills(), dto.getBasicSkills()));
+
+        p.setEducation(mergeChildren(p.getEducation(), dto.getEducation(),
+                e -> key(e.getDegree(), e.getFieldOfStudy(), e.getInstitution(), e.getStartDate()),
+                d -> key(d.getDegree(), d.getFieldOfStudy(), d.getInstitution(), d.getStartDate()),
+                d -> mapEducation(d, p), JobSeekerProfileService::applyEducation, Education::setSortOrder));
+
+        p.setWorkExperience(mergeChildren(p.getWorkExperience(), dto.getWorkExperience(),
+                w -> key(w.getCompany(), w.getJobTitle(), w.getStartDate()),
+                d -> key(d.getCompany(), d.getJobTitle(), d.getStartDate()),
+                d -> mapWorkExperience(d, p), JobSeekerProfileService::applyWorkExperience, WorkExperience::setSortOrder));
+
+        p.setProjects(mergeChildren(p.getProjects(), dto.getProjects(),
+                pr -> key(pr.getName(), pr.getStartDate()),
+                d -> key(d.getName(), d.getStartDate()),
+                d -> mapProject(d, p), JobSeekerProfileService::applyProject, Project::setSortOrder));
+
+        p.setAchievements(mergeChildren(p.getAchievements(), dto.getAchievements(),
+                a -> key(a.getTitle(), a.getIssueDate()),
+                d -> key(d.getTitle(), d.getIssueDate()),
+                d -> mapAchievement(d, p), JobSeekerProfileService::applyAchievement, Achievement::setSortOrder));
+
+        p.setCertifications(mergeChildren(p.getCertifications(), dto.getCertification(),
+                c -> key(c.getName(), c.getIssuedOrganization(), c.getCredentialId()),
+                d -> key(d.getName(), d.getIssuedOrganization(), d.getCredentialId()),
+                d -> mapCertification(d, p), JobSeekerProfileService::applyCertification, Certification::setSortOrder));
+
+        p.setLanguages(mergeChildren(p.getLanguages(),
+                dto.getOtherDetails() != null ? dto.getOtherDetails().getLanguages() : null,
+                l -> key(l.getLanguage()),
+                d -> key(d.getLanguage()),
+                d -> mapLanguageProficiency(d, p), JobSeekerProfileService::applyLanguageProficiency,
+                LanguageProficiency::setSortOrder));
 
         // One-to-one
         if (dto.getPreference() != null) {
             Preference pref = p.getPreference() != null ? p.getPreference() : new Preference();
             pref.setProfile(p);
-            pref.setCompanySize(dto.getPreference().getCompanySize());
-            pref.setJobType(dto.getPreference().getJobType());
-            pref.setJobSearch(dto.getPreference().getJobSearch());
+            pref.setCompanySize(replaceIfChanged(pref.getCompanySize(), dto.getPreference().getCompanySize()));
+            pref.setJobType(replaceIfChanged(pref.getJobType(), dto.getPreference().getJobType()));
+            pref.setJobSearch(replaceIfChanged(pref.getJobSearch(), dto.getPreference().getJobSearch()));
             p.setPreference(pref);
         }
 
@@ -149,10 +184,77 @@ public class JobSeekerProfileService {
         }
     }
 
+    /**
+     * Matches incoming items to existing children by natural key: a match is updated in place (Hibernate's
+     * dirty checking then writes only changed columns, usually none), unmatched items are added and
+     * unmatched children dropped (orphanRemoval deletes them). Duplicate keys pair up in order.
+     * The result follows the incoming order, which is also stored through {@code position} so it survives
+     * a reload. Returns the list to keep on the profile: {@code current} itself when there was one.
+     */
+    private static <E, D> List<E> mergeChildren(List<E> current, List<D> incoming,
+                                                Function<E, String> childKey, Function<D, String> itemKey,
+                                                Function<D, E> create, BiConsumer<D, E> update,
+                                                BiConsumer<E, Integer> position) {
+        List<E> children = current != null ? current : new ArrayList<>();
+        Map<String, Deque<E>> byKey = new HashMap<>();
+        for (E child : children) {
+            byKey.computeIfAbsent(childKey.apply(child), k -> new ArrayDeque<>()).add(child);
+        }
+
+        List<E> ordered = new ArrayList<>();
+        if (incoming != null) {
+            for (D item : incoming) {
+                Deque<E> candidates = byKey.get(itemKey.apply(item));
+                E child = candidates != null ? candidates.poll() : null;
+                if (child != null) {
+                    update.accept(item, child);
+                } else {
+                    child = create.apply(item);
+                }
+                position.accept(child, ordered.size());
+                ordered.add(child);
+            }
+        }
+        // Same collection instance, so Hibernate only deletes the children left out (orphanRemoval).
+        children.clear();
+        children.addAll(ordered);
+        return children;
+    }
+
+    /**
+     * Stores each child's list position, for the legacy save path that sets client lists directly.
+     */
+    private static <E> void numberInOrder(List<E> children, BiConsumer<E, Integer> position) {
+        for (int i = 0; i < children.size(); i++) {
+            position.accept(children.get(i), i);
+        }
+    }
+
+    private static String key(String... parts) {
+        StringBuilder sb = new StringBuilder();
+        for (String part : parts) {
+            sb.append(part != null ? part.trim().toLowerCase() : "").append('\u0000');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The current element collection when its content already equals {@code incoming} (null counts as empty),
+     * otherwise a copy of {@code incoming} to set in its place.
+     */
+    private static List<String> replaceIfChanged(List<String> current, List<String> incoming) {
+        List<String> next = incoming != null ? incoming : Collections.emptyList();
+        // Copy first: Hibernate's PersistentBag compares by identity, not by content.
+        if (current != null && new ArrayList<>(current).equals(next)) return current;
+        if (current == null && next.isEmpty()) return new ArrayList<>();
+        return new ArrayList<>(next);
+    }
+
     @Transactional
     public JobSeekerProfile save(String email, JobSeekerProfile profile) {
         JobSeekerProfile p = repo.findByEmail(email).orElse(new JobSeekerProfile());
         p.setEmail(email);
+        p.setChangedAt(LocalDateTime.now());
         p.setFullName(profile.getFullName());
         p.setPhone(profile.getPhone());
         p.setLinkedin(profile.getLinkedin());
@@ -171,26 +273,32 @@ public class JobSeekerProfileService {
         if (profile.getEducation() != null) {
             saved.setEducation(profile.getEducation());
             for (Education e : profile.getEducation()) e.setProfile(saved);
+            numberInOrder(profile.getEducation(), Education::setSortOrder);
         }
         if (profile.getWorkExperience() != null) {
             saved.setWorkExperience(profile.getWorkExperience());
             for (WorkExperience we : profile.getWorkExperience()) we.setProfile(saved);
+            numberInOrder(profile.getWorkExperience(), WorkExperience::setSortOrder);
         }
         if (profile.getProjects() != null) {
             saved.setProjects(profile.getProjects());
             for (Project pr : profile.getProjects()) pr.setProfile(saved);
+            numberInOrder(profile.getProjects(), Project::setSortOrder);
         }
         if (profile.getAchievements() != null) {
             saved.setAchievements(profile.getAchievements());
             for (Achievement a : profile.getAchievements()) a.setProfile(saved);
+            numberInOrder(profile.getAchievements(), Achievement::setSortOrder);
         }
         if (profile.getCertifications() != null) {
             saved.setCertifications(profile.getCertifications());
             for (Certification c : profile.getCertifications()) c.setProfile(saved);
+            numberInOrder(profile.getCertifications(), Certification::setSortOrder);
         }
         if (profile.getLanguages() != null) {
             saved.setLanguages(profile.getLanguages());
             for (LanguageProficiency lp : profile.getLanguages()) lp.setProfile(saved);
+            numberInOrder(profile.getLanguages(), LanguageProficiency::setSortOrder);
         }
         if (profile.getPreference() != null) {
             profile.getPreference().setProfile(saved);
@@ -205,6 +313,10 @@ public class JobSeekerProfileService {
             saved.setReviewAgree(profile.getReviewAgree());
         }
 
+        invalidateVectorAfterCommit(saved.getId());
+        jobMatchScoreService.profileChanged(saved.getId());
+        profileSkillIndex.update(saved);
+        changeVersionService.bump(ChangeVersionService.JOB_SEEKER_PROFILES, profileSkillIndex::savedLocally);
         return repo.save(saved);
     }
 
@@ -356,6 +468,11 @@ public class JobSeekerProfileService {
     private static Education mapEducation(EducationDTO dto, JobSeekerProfile profile) {
         Education e = new Education();
         e.setProfile(profile);
+        applyEducation(dto, e);
+        return e;
+    }
+
+    private static void applyEducation(EducationDTO dto, Education e) {
         e.setDegree(dto.getDegree());
         e.setFieldOfStudy(dto.getFieldOfStudy());
         e.setInstitution(dto.getInstitution());
@@ -363,63 +480,82 @@ public class JobSeekerProfileService {
         e.setEndDate(dto.getEndDate());
         e.setGrade(dto.getGrade());
         e.setLocation(dto.getLocation());
-        return e;
     }
 
     private static WorkExperience mapWorkExperience(WorkExperienceDTO dto, JobSeekerProfile profile) {
         WorkExperience we = new WorkExperience();
         we.setProfile(profile);
+        applyWorkExperience(dto, we);
+        return we;
+    }
+
+    private static void applyWorkExperience(WorkExperienceDTO dto, WorkExperience we) {
         we.setJobTitle(dto.getJobTitle());
         we.setCompany(dto.getCompany());
         we.setLocation(dto.getLocation());
         we.setStartDate(dto.getStartDate());
         we.setEndDate(dto.getEndDate());
         we.setCurrentlyWorking(dto.getCurrentlyWorking());
-        we.setResponsibilities(dto.getResponsibilities());
-        we.setTechnologies(dto.getTechnologies());
+        we.setResponsibilities(replaceIfChanged(we.getResponsibilities(), dto.getResponsibilities()));
+        we.setTechnologies(replaceIfChanged(we.getTechnologies(), dto.getTechnologies()));
         we.setDescription(dto.getDescription());
-        return we;
     }
 
     private static Project mapProject(ProjectDTO dto, JobSeekerProfile profile) {
         Project pr = new Project();
         pr.setProfile(profile);
+        applyProject(dto, pr);
+        return pr;
+    }
+
+    private static void applyProject(ProjectDTO dto, Project pr) {
         pr.setName(dto.getName());
         pr.setDescription(dto.getDescription());
         pr.setCurrentlyWorking(dto.getCurrentlyWorking());
         pr.setStartDate(dto.getStartDate());
         pr.setEndDate(dto.getEndDate());
         pr.setPhotoUrl(dto.getPhotoUrl());
-        return pr;
     }
 
     private static Achievement mapAchievement(AchievementDTO dto, JobSeekerProfile profile) {
         Achievement a = new Achievement();
         a.setProfile(profile);
+        applyAchievement(dto, a);
+        return a;
+    }
+
+    private static void applyAchievement(AchievementDTO dto, Achievement a) {
         a.setTitle(dto.getTitle());
         a.setIssueDate(dto.getIssueDate());
         a.setDescription(dto.getDescription());
-        return a;
     }
 
     private static Certification mapCertification(CertificationDTO dto, JobSeekerProfile profile) {
         Certification c = new Certification();
         c.setProfile(profile);
+        applyCertification(dto, c);
+        return c;
+    }
+
+    private static void applyCertification(CertificationDTO dto, Certification c) {
         c.setName(dto.getName());
         c.setIssueDate(dto.getIssueDate());
         c.setIssuedOrganization(dto.getIssuedOrganization());
         c.setCredentialId(dto.getCredentialId());
         c.setCredentialUrl(dto.getCredentialUrl());
-        return c;
     }
 
     private static LanguageProficiency mapLanguageProficiency(LanguageProficiencyDTO dto, JobSeekerProfile profile) {
         LanguageProficiency lp = new LanguageProficiency();
         lp.setProfile(profile);
+        applyLanguageProficiency(dto, lp);
+        return lp;
+    }
+
+    private static void applyLanguageProficiency(LanguageProficiencyDTO dto, LanguageProficiency lp) {
         lp.setLanguage(dto.getLanguage());
         lp.setSpeaking(dto.getSpeaking());
         lp.setReading(dto.getReading());
         lp.setWriting(dto.getWriting());
-        return lp;
     }
 }
@@ -3,6 +3,11 @@ package com.et.SudburyCityPlatform.service.Jobs;
 import com.et.SudburyCityPlatform.dto.ApplyJobRequestDTO;
 import com.et.SudburyCityPlatform.dto.EducationDTO;
 import com.et.SudburyCityPlatform.dto.EmployerAcceptedCandidateDTO;
+import com.et.SudburyCityPlatform.dto.JobCacheStatsDTO;
+import com.et.SudburyCityPlatform.dto.JobCandidateMatchDTO;
+import com.et.SudburyCityPlatform.dto.JobFacetCountsDTO;
+import com.et.SudburyCityPlatform.dto.JobListPageDTO;
+import com.et.SudburyCityPlatform.dto.JobSearchPageDTO;
 import com.et.SudburyCityPlatform.dto.EmployerDashboardMetricsDTO;
 import com.et.SudburyCityPlatform.dto.JobMatchDTO;
 import com.et.SudburyCityPlatform.dto.JobSeekerInviteDTO;
@@ -18,21 +23,32 @@ import com.et.SudburyCityPlatform.repository.Jobs.JobApplicationRepository;
 import com.et.SudburyCityPlatform.repository.Jobs.JobInviteRepository;
 import com.et.SudburyCityPlatform.repository.Jobs.JobRepository;
 import com.et.SudburyCityPlatform.repository.Jobs.JobSeekerProfileRepository;
+import com.et.SudburyCityPlatform.service.ChangeVersionService;
 import com.et.SudburyCityPlatform.service.EmailService;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 
+@Slf4j
 @Service
 public class JobService {
 
@@ -49,6 +65,48 @@ public class JobService {
     @Autowired
     private JobInviteRepository jobInviteRepository;
 
+    @Autowired
+    private JobFeatureIndex jobFeatureIndex;
+
+    @Autowired
+    private SeekerMatchVectorCache seekerMatchVectorCache;
+
+    @Autowired
+    private JobTermIndex jobTermIndex;
+
+    @Autowired
+    private JobScoringExecutor jobScoringExecutor;
+
+    @Autowired
+    private JobMatchScoreService jobMatchScoreService;
+
+    @Autowired
+    private ProfileSkillIndex profileSkillIndex;
+
+    @Autowired
+    private ProfileBatchLoader profileBatchLoader;
+
+    @Autowired
+    private JobFacetIndex jobFacetIndex;
+
+    @Autowired
+    private JobCache jobCache;
+
+    @Autowired
+    private ChangeVersionService changeVersionService;
+
+    @Autowired
+    private EmployerDashboardRollupService dashboardRollupService;
+
+    // JOBS change version the in-memory job indexes are current with; -1 until the first warm-up.
+    private final AtomicLong indexedJobsVersion = new AtomicLong(-1);
+    // Start of the last warm-up or catch-up pass; the next pass reads jobs updated since (minus the overlap).
+    private volatile LocalDateTime jobsCaughtUpTo;
+    private final Object jobIndexLock = new Object();
+
+    // Allows for clock skew between instances and for transactions committing after their updatedAt was set.
+    private static final Duration CATCH_UP_OVERLAP = Duration.ofMinutes(2);
+
     @Autowired
     public JobService(JobRepository jobRepository, JobApplicationRepository applicationRepository) {
         this.jobRepository = jobRepository;
@@ -57,9 +115,118 @@ public class JobService {
 
     }
 
+    /**
+     * Populates the job feature/term indexes and the profile skill index once the application is up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmMatchIndexes() {
+        try {
+            warmJobIndexes();
+        } catch (Exception e) {
+            // Matching falls back to scanning all jobs until the index is ready; catchUpJobIndexes retries.
+            log.warn("Job match index warm-up failed: {}", e.getMessage());
+        }
+        try {
+            profileSkillIndex.load();
+        } catch (Exception e) {
+            // Retried by the scheduled catch-up, or on the first reverse-matching request.
+            log.warn("Profile skill index warm-up failed: {}", e.getMessage());
+        }
+    }
+
+    private void warmJobIndexes() {
+        synchronized (jobIndexLock) {
+            // Read before loading: a write landing during the load moves the version again and triggers a catch-up.
+            long version = changeVersionService.current(ChangeVersionService.JOBS);
+            LocalDateTime startedAt = LocalDateTime.now();
+            jobFeatureIndex.beginWarm();
+            List<Job> jobs = jobRepository.findAll();
+            jobFeatureIndex.warm(jobs);
+            jobFacetIndex.warm(jobs);
+            jobsCaughtUpTo = startedAt;
+            indexedJobsVersion.set(version);
+            log.info("Indexed {} jobs ({} distinct terms) for matching", jobs.size(), jobTermIndex.termCount());
+        }
+    }
+
+    /**
+     * Applies jobs created, edited or deleted through other instances to the in-memory indexes (features,
+     * terms and facets), off the request path. One version lookup when nothing changed elsewhere (this
+     * instance's own writes advance the indexed version as they're applied); otherwise only jobs updated
+     * since the last pass are re-indexed, and ids no longer in the table are dropped. Pooled sequence ids aren't monotonic across instances, so
+     * neither an id high-water mark nor the id list alone can find the changes.
+     */
+    @Scheduled(fixedDelayString = "${jobs.index.catch-up-interval:PT15S}",
+            initialDelayString = "${jobs.index.catch-up-interval:PT15S}")
+    public void catchUpJobIndexes() {
+        try {
+            if (!jobTermIndex.isReady()) {
+                warmJobIndexes();
+                return;
+            }
+            if (changeVersionService.current(ChangeVersionService.JOBS) == indexedJobsVersion.get()) return;
+            synchronized (jobIndexLock) {
+                long version = changeVersionService.current(ChangeVersionService.JOBS);
+                if (version == indexedJobsVersion.get()) return;
+                LocalDateTime startedAt = LocalDateTime.now();
+                // Taken before reading the table, so jobs indexed locally meanwhile are never pruned.
+                Set<Long> indexed = new HashSet<>(jobTermIndex.ids());
+                indexed.addAll(jobFacetIndex.ids());
+
+                List<Job> changed = jobRepository.findByUpdatedAtAfter(jobsCaughtUpTo.minus(CATCH_UP_OVERLAP));
+                for (Job job : changed) {
+                    jobFeatureIndex.refresh(job);
+                    jobFacetIndex.put(job);
+                    jobCache.invalidate(job.getId());
+                }
+                Set<Long> live = new HashSet<>(jobRepository.findAllIds());
+                int removed = 0;
+                for (Long id : indexed) {
+                    if (live.contains(id)) continue;
+                    jobFeatureIndex.remove(id);
+                    jobFacetIndex.remove(id);
+                    jobCache.invalidate(id);
+                    removed++;
+                }
+                jobsCaughtUpTo = startedAt;
+                indexedJobsVersion.accumulateAndGet(version, Math::max);
+                log.debug("Job index catch-up to version {}: {} changed, {} removed", version, changed.size(), removed);
+            }
+        } catch (Exception e) {
+            log.warn("Job index catch-up failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Bumps the JOBS version for a write this instance already applied to its indexes. The indexed version
+     * only follows when nothing else landed in between; otherwise {@link #catchUpJobIndexes} has work to do.
+     */
+    private void bumpJobsVersion() {
+        changeVersionService.bump(ChangeVersionService.JOBS,
+                version -> indexedJobsVersion.compareAndSet(version - 1, version));
+    }
+
     public Job createJob(Job job) {
         job.setPostedDate(LocalDate.now());
-        return jobRepository.save(job);
+        Job saved = jobRepository.save(job);
+        jobSaved(saved);
+        return saved;
+    }
+
+    /**
+     * Brings the in-memory indexes, the job cache and the jobs change version (ETags) in line with a saved job.
+     */
+    private void jobSaved(Job saved) {
+        jobsSaved(List.of(saved));
+    }
+
+    private void jobsSaved(List<Job> saved) {
+        for (Job job : saved) {
+            jobFeatureIndex.refresh(job);
+            jobFacetIndex.put(job);
+            jobCache.invalidate(job.getId());
+        }
+        bumpJobsVersion();
     }
 
     /**
@@ -69,21 +236,41 @@ public class JobService {
         Job job = new Job();
         job.setEmployer(new Employer(employerId));
         applyEmployerDto(job, dto, true);
-        return jobRepository.save(job);
+        Job saved = jobRepository.save(job);
+        jobSaved(saved);
+        return saved;
     }
 
     /**
      * Bulk-create jobs for an employer (e.g. from a parsed PDF).
      */
     public List<Job> createJobsForEmployerBulk(Long employerId, List<EmployerJobPostRequestDTO> dtos) {
-        List<Job> saved = new ArrayList<>();
+        List<Job> saved = insertJobsForEmployer(employerId, dtos);
+        jobsSaved(saved);
+        return saved;
+    }
+
+    /**
+     * Persist step of {@link #createJobsForEmployerBulk}: the jobs are committed once this returns, but not
+     * yet indexed or announced. Callers must pass the result to {@link #jobsCreated}.
+     */
+    public List<Job> insertJobsForEmployer(Long employerId, List<EmployerJobPostRequestDTO> dtos) {
+        List<Job> jobs = new ArrayList<>(dtos.size());
         for (EmployerJobPostRequestDTO dto : dtos) {
             Job job = new Job();
             job.setEmployer(new Employer(employerId));
             applyEmployerDto(job, dto, true);
-            saved.add(jobRepository.save(job));
+            jobs.add(job);
         }
-        return saved;
+        // One transaction, so the inserts go out in JDBC batches (sequence ids, see V10 migration).
+        return jobRepository.saveAll(jobs);
+    }
+
+    /**
+     * Indexes, cache invalidation and change version for jobs inserted by {@link #insertJobsForEmployer}.
+     */
+    public void jobsCreated(List<Job> saved) {
+        if (!saved.isEmpty()) jobsSaved(saved);
     }
 
     /**
@@ -96,11 +283,14 @@ public class JobService {
             throw new ForbiddenException("Unauthorized access");
         }
         applyEmployerDto(job, dto, false);
-        return jobRepository.save(job);
+        Job saved = jobRepository.save(job);
+        jobSaved(saved);
+        jobMatchScoreService.jobChanged(saved.getId());
+        return saved;
     }
 
     public Job getJobForEmployer(Long employerId, Long jobId) {
-        Job job = jobRepository.findById(jobId)
+        Job job = cachedJob(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
         if (job.getEmployer() == null || job.getEmployer().getId() == null || !job.getEmployer().getId().equals(employerId)) {
             throw new ForbiddenException("Unauthorized access");
@@ -115,6 +305,12 @@ public class JobService {
             throw new ForbiddenException("Unauthorized access");
         }
         jobRepository.delete(job);
+        dashboardRollupService.jobDeleted(jobId);
+        jobFeatureIndex.remove(jobId);
+        jobFacetIndex.remove(jobId);
+        jobCache.invalidate(jobId);
+        bumpJobsVersion();
+        jobMatchScoreService.jobDeleted(jobId);
     }
 
     /**
@@ -142,36 +338,129 @@ public class JobService {
         return invite;
     }
 
+    /**
+     * Every job, served from {@link JobCache}. The list is shared: callers must not modify it or its jobs.
+     */
     public List<Job> getAllJobs() {
+        return jobCache.getPage("all", () -> List.copyOf(jobRepository.findAll()));
+    }
+
+    /**
+     * Every job straight from the database, bypassing {@link JobCache}. For the versioned response body cache, which
+     * keys bodies by the JOBS change version: a cached page can predate that version (written through another
+     * instance) and would then be pinned under it.
+     */
+    public List<Job> getAllJobsUncached() {
         return jobRepository.findAll();
     }
 
+    public Job getJob(Long jobId) {
+        return cachedJob(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found"));
+    }
+
+    /**
+     * Read-only lookup through {@link JobCache}; write paths load the entity from the repository.
+     */
+    private Optional<Job> cachedJob(Long jobId) {
+        return jobCache.getJob(jobId, () -> jobRepository.findById(jobId));
+    }
+
+    public JobCacheStatsDTO getJobCacheStats() {
+        return jobCache.stats();
+    }
+
+    /**
+     * Strong ETag of a seeker-scored job list: it also depends on profiles and on the scoring algorithm.
+     * Scoped per request URL by the client, which already carries the seeker and the other parameters.
+     */
+    public String jobMatchesETag() {
+        return "jobs-" + changeVersionService.current(ChangeVersionService.JOBS)
+                + "-profiles-" + changeVersionService.current(ChangeVersionService.JOB_SEEKER_PROFILES)
+                + "-m" + JobMatchScoreService.ALGORITHM_VERSION;
+    }
+
+    /**
+     * Strong ETag of a single job, taken from the entity actually served: a copy still held by
+     * {@link JobCache} keeps its old tag, so clients revalidate to the fresh body once it expires.
+     */
+    public static String jobETag(Job job) {
+        return "job-" + job.getId() + "-" + (job.getUpdatedAt() == null ? "0" : job.getUpdatedAt().toString());
+    }
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * One page of the job listing, newest first (postedDate desc, then id desc; undated jobs last),
+     * as card-sized {@link JobListItem}s. Pass the returned nextCursor back to get the next page.
+     * Keyset paging: each page is an index range scan, however deep the client scrolls.
+     */
+    public JobListPageDTO listJobsPage(String cursor, Integer size) {
+        int n = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        JobListCursor after = JobListCursor.decode(cursor);
+        return jobCache.getPage("page:" + n + ":" + (cursor == null ? "" : cursor), () -> loadJobsPage(after, n));
+    }
+
+    private JobListPageDTO loadJobsPage(JobListCursor after, int n) {
+
+        // Fetch one extra row to know whether another page exists.
+        List<JobListItem> items = new ArrayList<>(n + 1);
+        boolean inDated = after == null || after.postedDate() != null;
+        if (inDated) {
+            items.addAll(after == null
+                    ? jobRepository.listDated(PageRequest.of(0, n + 1))
+                    : jobRepository.listDatedAfter(after.postedDate(), after.id(), PageRequest.of(0, n + 1)));
+        }
+        if (items.size() <= n) {
+            long afterId = inDated ? Long.MAX_VALUE : after.id();
+            items.addAll(jobRepository.listUndatedAfter(afterId, PageRequest.of(0, n + 1 - items.size())));
+        }
+
+        if (items.size() <= n) {
+            return new JobListPageDTO(List.copyOf(items), null);
+        }
+        List<JobListItem> page = List.copyOf(items.subList(0, n));
+        JobListItem last = page.get(n - 1);
+        return new JobListPageDTO(page, new JobListCursor(last.postedDate(), last.id()).encode());
+    }
+
     /**
      * Get all jobs but enrich each job with a computed `matchPercentage` for the given job seeker.
-     * Response is sorted by highest match first.
+     * Response is sorted by highest match first (ties: latest postedDate first).
+     *
+     * @param limit    max jobs to return; null/non-positive returns every job that passes minScore
+     * @param minScore drop jobs whose match percentage is below this; null keeps all
      */
-    public List<Job> getAllJobsWithMatchPercentage(String email) {
+    public List<Job> getAllJobsWithMatchPercentage(String email, Integer limit, Integer minScore) {
         JobSeekerProfile profile =
                 profileRepository.findByEmail(email)
                         .orElseThrow(() -> new ResourceNotFoundException("Profile required"));
+        SeekerMatchVector seeker = seekerMatchVectorCache.get(profile);
+        int threshold = minScore == null ? 0 : clampPct(minScore);
 
         List<Job> jobs = jobRepository.findAll();
-        for (Job j : jobs) {
-            int pct = scoreJob(profile, j).getMatchPercentage();
-            j.setMatchPercentage(pct);
+        int k = (limit == null || limit <= 0) ? jobs.size() : Math.min(limit, jobs.size());
+
+        JobFeatures[] features = featuresOf(jobs);
+        int[] scores = jobScoringExecutor.scoreAll(jobs.size(),
+                i -> scoreJob(seeker, features[i], null).getMatchPercentage());
+
+        // Only the best k survive the heap; the full list is never sorted.
+        TopKSelector top = new TopKSelector(k);
+        for (int i = 0; i < jobs.size(); i++) {
+            if (scores[i] < threshold) continue;
+            top.offer(scores[i], jobs.get(i).getPostedDate(), i);
         }
-        jobs.sort((a, b) -> {
-            int ap = a.getMatchPercentage() != null ? a.getMatchPercentage() : 0;
-            int bp = b.getMatchPercentage() != null ? b.getMatchPercentage() : 0;
-            int cmp = Integer.compare(bp, ap);
-            if (cmp != 0) return cmp;
-            // tie-breaker: latest postedDate first (nulls last)
-            if (a.getPostedDate() == null && b.getPostedDate() == null) return 0;
-            if (a.getPostedDate() == null) return 1;
-            if (b.getPostedDate() == null) return -1;
-            return b.getPostedDate().compareTo(a.getPostedDate());
-        });
-        return jobs;
+
+        int[] order = top.indicesDescending();
+        List<Job> out = new ArrayList<>(order.length);
+        for (int idx : order) {
+            Job j = jobs.get(idx);
+            j.setMatchPercentage(scores[idx]);
+            out.add(j);
+        }
+        return out;
     }
 
     public Job updateJob(Job job) {
@@ -184,6 +473,7 @@ public class JobService {
         desiredJob.setSalary(job.getSalary());
         desiredJob.setSalaryMin(job.getSalaryMin());
         desiredJob.setSalaryMax(job.getSalaryMax());
+        desiredJob.setSalaryPeriod(job.getSalaryPeriod());
         desiredJob.setEmploymentType(job.getEmploymentType());
         desiredJob.setPostedDate(LocalDate.now());
         desiredJob.setRequirements(job.getRequirements());
@@ -196,7 +486,10 @@ public class JobService {
         desiredJob.setUrgentlyHiring(job.getUrgentlyHiring());
         desiredJob.setCompanyName(job.getCompanyName());
 
-        return jobRepository.save(desiredJob);
+        Job saved = jobRepository.save(desiredJob);
+        jobSaved(saved);
+        jobMatchScoreService.jobChanged(saved.getId());
+        return saved;
     }
 
 
@@ -224,7 +517,10 @@ public class JobService {
             }
         }
         request.setJob(job);
-        return applicationRepository.save(request);
+        JobApplicationRequest saved = applicationRepository.save(request);
+        dashboardRollupService.applicationCreated(saved);
+        jobMatchScoreService.applicationCreated(jobId, saved.getEmail());
+        return saved;
     }
 
     /**
@@ -245,7 +541,10 @@ public class JobService {
         }
 
         JobApplicationRequest request = mapApplyDtoToApplication(dto, job);
-        return applicationRepository.save(request);
+        JobApplicationRequest saved = applicationRepository.save(request);
+        dashboardRollupService.applicationCreated(saved);
+        jobMatchScoreService.applicationCreated(jobId, saved.getEmail());
+        return saved;
     }
 
     private static final int MAX_LEN = 255;
@@ -310,6 +609,7 @@ public class JobService {
         job.setRequirements(dto.getRequirements());
         job.setSalaryMin(dto.getSalaryMin());
         job.setSalaryMax(dto.getSalaryMax());
+        job.setSalaryPeriod(dto.getSalaryPeriod());
         job.setExternalApplyUrl(dto.getExternalApplyUrl() != null && !dto.getExternalApplyUrl().isBlank() ? dto.getExternalApplyUrl().trim() : null);
 
         // Keep legacy salary field populated for existing code paths
@@ -344,34 +644,27 @@ public class JobService {
         List<Job> jobs = getJobsByEmployer(employerId);
         if (jobs.isEmpty()) return List.of();
 
-        List<Long> jobIds = jobs.stream().map(Job::getId).toList();
-        List<JobApplicationRequest> apps = applicationRepository.findByJobIdIn(jobIds);
-
-        Map<Long, List<JobApplicationRequest>> byJob = new HashMap<>();
-        for (JobApplicationRequest a : apps) {
-            Long jid = a.getJob() != null ? a.getJob().getId() : null;
-            if (jid == null) continue;
-            byJob.computeIfAbsent(jid, k -> new ArrayList<>()).add(a);
-        }
-
-        List<EmployerJobStatsDTO> out = new ArrayList<>();
+        // One GROUP BY row per (job, status) instead of every application entity.
+        Map<Long, EmployerJobStatsDTO> byJob = new HashMap<>();
+        List<EmployerJobStatsDTO> out = new ArrayList<>(jobs.size());
         for (Job j : jobs) {
-            List<JobApplicationRequest> list = byJob.getOrDefault(j.getId(), List.of());
-            long total = list.size();
-            long accepted = list.stream().filter(a -> a.getStatus() == ApplicationStatus.HIRED || a.getStatus() == ApplicationStatus.OFFERED).count();
-            long declined = list.stream().filter(a -> a.getStatus() == ApplicationStatus.REJECTED).count();
-            long requestsSent = list.stream().filter(a -> a.getStatus() == ApplicationStatus.REQUEST_SENT).count();
-            long matching = list.stream().filter(a -> a.getStatus() == ApplicationStatus.MATCHING).count();
-            out.add(new EmployerJobStatsDTO(
-                    j.getId(),
-                    j.getRole(),
-                    j.getCompanyName(),
-                    total,
-                    accepted,
-                    declined,
-                    requestsSent,
-                    matching
-            ));
+            EmployerJobStatsDTO dto = new EmployerJobStatsDTO(j.getId(), j.getRole(), j.getCompanyName(), 0, 0, 0, 0, 0);
+            byJob.put(j.getId(), dto);
+            out.add(dto);
+        }
+        for (JobStatusCount c : applicationRepository.countByStatusForEmployer(employerId)) {
+            EmployerJobStatsDTO dto = byJob.get(c.getJobId());
+            if (dto == null) continue;
+            long n = c.getCount();
+            dto.setAppliedCandidates(dto.getAppliedCandidates() + n);
+            if (c.getStatus() == null) continue;
+            switch (c.getStatus()) {
+                case HIRED, OFFERED -> dto.setAcceptedCandidates(dto.getAcceptedCandidates() + n);
+                case REJECTED -> dto.setDeclinedCandidates(n);
+                case REQUEST_SENT -> dto.setRequestsSent(n);
+                case MATCHING -> dto.setMatchingCandidates(n);
+                default -> { }
+            }
         }
         return out;
     }
@@ -389,29 +682,25 @@ public class JobService {
         List<Long> jobIds = jobs.stream().map(Job::getId).toList();
         List<JobApplicationRequest> apps = applicationRepository.findByJobIdIn(jobIds);
 
+        List<JobApplicationRequest> accepted = apps.stream()
+                .filter(a -> a.getStatus() == ApplicationStatus.OFFERED || a.getStatus() == ApplicationStatus.HIRED)
+                .filter(a -> a.getJob() != null)
+                .toList();
+        int[] scores = applicantMatchScores(accepted);
+
         List<EmployerAcceptedCandidateDTO> out = new ArrayList<>();
-        for (JobApplicationRequest app : apps) {
-            if (app.getStatus() != ApplicationStatus.OFFERED && app.getStatus() != ApplicationStatus.HIRED) {
-                continue;
-            }
+        for (int i = 0; i < accepted.size(); i++) {
+            JobApplicationRequest app = accepted.get(i);
             Job job = app.getJob();
-            if (job == null) continue;
 
             String name = (app.getFirstName() != null ? app.getFirstName().trim() : "") +
                     (app.getLastName() != null && !app.getLastName().isBlank() ? " " + app.getLastName().trim() : "");
             if (name.isBlank()) name = app.getEmail();
 
-            Integer matchPct = 0;
-            JobSeekerProfile seekerProfile = null;
-            if (app.getEmail() != null && !app.getEmail().isBlank()) {
-                seekerProfile = profileRepository.findByEmail(app.getEmail()).orElse(null);
-            }
-            if (seekerProfile != null) {
-                matchPct = scoreJob(seekerProfile, job).getMatchPercentage();
-            } else {
-                // fallback: experience-only match if profile doesn't exist
-                matchPct = experienceMatchPercentage(app.getYearsOfExperience(), job.getExperienceRange());
-            }
+            Integer matchPct = scores[i] != NO_PROFILE
+                    ? scores[i]
+                    // fallback: experience-only match if profile doesn't exist
+                    : experienceMatchPercentage(app.getYearsOfExperience(), job.getExperienceRange());
 
             out.add(new EmployerAcceptedCandidateDTO(
                     app.getId(),
@@ -434,6 +723,8 @@ public class JobService {
         return out;
     }
 
+    private static final List<ApplicationStatus> ACCEPTED_STATUSES = List.of(ApplicationStatus.OFFERED, ApplicationStatus.HIRED);
+
     /**
      * Employer dashboard metrics (cards + acceptance-rate chart + attention needed).
      * This is intentionally lightweight and uses simple heuristics so the UI can render.
@@ -445,42 +736,37 @@ public class JobService {
             window = windowDays;
         }
 
-        List<Job> jobs = getJobsByEmployer(employerId);
-        long activeJobs = jobs.size();
-
-        List<JobApplicationRequest> apps;
-        if (jobs.isEmpty()) {
-            apps = List.of();
-        } else {
-            List<Long> jobIds = jobs.stream().map(Job::getId).toList();
-            apps = applicationRepository.findByJobIdIn(jobIds);
+        // Application counts come from the daily rollup (see EmployerDashboardRollupService), so the
+        // cost is bounded by jobs x days x statuses rather than by application history; no
+        // application entity is loaded except those still lacking a stored match score.
+        List<LocalDate> postedDates = jobRepository.findPostedDatesByEmployerId(employerId);
+        long activeJobs = postedDates.size();
+
+        long totalApplicants = 0;
+        long matchingApplicants = 0;
+        long accepted = 0;
+        long pendingReview = 0;
+        for (JobStatusCount c : dashboardRollupService.sumByJobAndStatus(employerId)) {
+            totalApplicants += c.getCount();
+            if (c.getStatus() == ApplicationStatus.MATCHING) matchingApplicants += c.getCount();
+            if (ACCEPTED_STATUSES.contains(c.getStatus())) accepted += c.getCount();
+            if (c.getStatus() == ApplicationStatus.UNDER_REVIEW) pendingReview += c.getCount();
         }
-
-        long totalApplicants = apps.size();
-        long matchingApplicants = apps.stream().filter(a -> a.getStatus() == ApplicationStatus.MATCHING).count();
         double avgApplicantsPerJob = activeJobs > 0 ? (totalApplicants * 1.0 / activeJobs) : 0.0;
 
-        long accepted = apps.stream().filter(a -> a.getStatus() == ApplicationStatus.OFFERED || a.getStatus() == ApplicationStatus.HIRED).count();
-
-        // % change vs previous window using appliedAt as the time dimension
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime start = now.minusDays(window);
-        LocalDateTime prevStart = now.minusDays(window * 2L);
+        // % change vs previous window using the applied day as the time dimension
+        // (the window is the last `window` days including today)
+        LocalDate today = LocalDate.now();
+        LocalDate start = today.minusDays(window - 1L);
+        LocalDate prevStart = start.minusDays(window);
 
-        long acceptedThisWindow = apps.stream()
-                .filter(a -> a.getAppliedAt() != null && !a.getAppliedAt().isBefore(start))
-                .filter(a -> a.getStatus() == ApplicationStatus.OFFERED || a.getStatus() == ApplicationStatus.HIRED)
-                .count();
-        long acceptedPrevWindow = apps.stream()
-                .filter(a -> a.getAppliedAt() != null && a.getAppliedAt().isBefore(start) && !a.getAppliedAt().isBefore(prevStart))
-                .filter(a -> a.getStatus() == ApplicationStatus.OFFERED || a.getStatus() == ApplicationStatus.HIRED)
-                .count();
+        long acceptedThisWindow = dashboardRollupService.sum(employerId, ACCEPTED_STATUSES, start, today.plusDays(1));
+        long acceptedPrevWindow = dashboardRollupService.sum(employerId, ACCEPTED_STATUSES, prevStart, start);
         Integer acceptedChangePct = percentChange(acceptedPrevWindow, acceptedThisWindow);
 
         // Active jobs change: compare jobs posted in last 30 days vs previous 30 days (best effort)
-        LocalDate today = LocalDate.now();
-        long jobsThisMonth = jobs.stream().filter(j -> j.getPostedDate() != null && !j.getPostedDate().isBefore(today.minusDays(30))).count();
-        long jobsPrevMonth = jobs.stream().filter(j -> j.getPostedDate() != null && j.getPostedDate().isBefore(today.minusDays(30)) && !j.getPostedDate().isBefore(today.minusDays(60))).count();
+        long jobsThisMonth = postedDates.stream().filter(d -> d != null && !d.isBefore(today.minusDays(30))).count();
+        long jobsPrevMonth = postedDates.stream().filter(d -> d != null && d.isBefore(today.minusDays(30)) && !d.isBefore(today.minusDays(60))).count();
         Integer activeJobsChangePct = percentChange(jobsPrevMonth, jobsThisMonth);
 
         // Acceptance rate series (chart):
@@ -491,18 +777,19 @@ public class JobService {
 
         int chartDays = Math.min(30, Math.max(1, window));
         LocalDate startDate = today.minusDays(chartDays - 1L);
+        long[] totalByDay = new long[chartDays];
+        long[] acceptedByDay = new long[chartDays];
+        for (DailyStatusCount c : dashboardRollupService.sumByDayAndStatus(employerId, startDate)) {
+            if (c.getDay() == null) continue;
+            long day = ChronoUnit.DAYS.between(startDate, c.getDay());
+            if (day < 0 || day >= chartDays) continue;
+            totalByDay[(int) day] += c.getCount();
+            if (ACCEPTED_STATUSES.contains(c.getStatus())) acceptedByDay[(int) day] += c.getCount();
+        }
         for (int i = 0; i < chartDays; i++) {
-            LocalDate d = startDate.plusDays(i);
-            long totalApplied = apps.stream()
-                    .filter(a -> a.getAppliedAt() != null && a.getAppliedAt().toLocalDate().equals(d))
-                    .count();
-            long acceptedApplied = apps.stream()
-                    .filter(a -> a.getAppliedAt() != null && a.getAppliedAt().toLocalDate().equals(d))
-                    .filter(a -> a.getStatus() == ApplicationStatus.OFFERED || a.getStatus() == ApplicationStatus.HIRED)
-                    .count();
-
-            int rate = totalApplied == 0 ? 0 : (int) Math.round((acceptedApplied * 100.0) / totalApplied);
-            series.add(new EmployerDashboardMetricsDTO.AcceptanceRatePoint(d, clampPct(rate)));
+            long totalApplied = totalByDay[i];
+            int rate = totalApplied == 0 ? 0 : (int) Math.round((acceptedByDay[i] * 100.0) / totalApplied);
+            series.add(new EmployerDashboardMetricsDTO.AcceptanceRatePoint(startDate.plusDays(i), clampPct(rate)));
         }
 
         // Projected: simple 7-day moving average of actuals (dashed line in UI)
@@ -520,28 +807,27 @@ public class JobService {
         }
 
         // Attention needed
-        long pendingReview = apps.stream().filter(a -> a.getStatus() == ApplicationStatus.UNDER_REVIEW).count();
-        long jobsNearingDeadline = jobs.stream()
-                .filter(j -> j.getPostedDate() != null)
-                .filter(j -> j.getPostedDate().isBefore(today.minusDays(25)) && j.getPostedDate().isAfter(today.minusDays(40)))
+        long jobsNearingDeadline = postedDates.stream()
+                .filter(d -> d != null)
+                .filter(d -> d.isBefore(today.minusDays(25)) && d.isAfter(today.minusDays(40)))
                 .count();
 
-        // low match jobs heuristic: average match% across all seekers who applied is below 40
+        // low match jobs heuristic: average match% across all seekers who applied is below 40.
+        // Applicants without a profile don't count towards the average. Stored scores are summed
+        // in the database; only applications not materialized yet are scored here (and queued).
+        Map<Long, long[]> sumAndCount = jobMatchScoreService.applicantScoreSums(employerId);
+        List<JobApplicationRequest> unscored =
+                applicationRepository.findUnscoredForEmployer(employerId, JobMatchScoreService.ALGORITHM_VERSION);
+        int[] unscoredScores = applicantMatchScores(unscored);
+        for (int i = 0; i < unscored.size(); i++) {
+            if (unscoredScores[i] == NO_PROFILE) continue;
+            long[] acc = sumAndCount.computeIfAbsent(unscored.get(i).getJob().getId(), k -> new long[2]);
+            acc[0] += unscoredScores[i];
+            acc[1]++;
+        }
         long lowMatchJobs = 0;
-        for (Job job : jobs) {
-            List<JobApplicationRequest> jobApps = apps.stream().filter(a -> a.getJob() != null && job.getId() != null && job.getId().equals(a.getJob().getId())).toList();
-            if (jobApps.isEmpty()) continue;
-            int scored = 0;
-            int sum = 0;
-            for (JobApplicationRequest app : jobApps) {
-                if (app.getEmail() == null || app.getEmail().isBlank()) continue;
-                JobSeekerProfile p = profileRepository.findByEmail(app.getEmail()).orElse(null);
-                if (p == null) continue;
-                sum += scoreJob(p, job).getMatchPercentage();
-                scored++;
-            }
-            if (scored == 0) continue;
-            int avg = (int) Math.round(sum * 1.0 / scored);
+        for (long[] acc : sumAndCount.values()) {
+            int avg = (int) Math.round(acc[0] * 1.0 / acc[1]);
             if (avg < 40) lowMatchJobs++;
         }
 
@@ -600,38 +886,158 @@ public class JobService {
         List<JobApplicationRequest> apps = applicationRepository.findByJobId(jobId);
         if (apps.isEmpty()) return apps;
 
-        // Batch-load profiles to avoid N+1 queries
-        List<String> emails = apps.stream()
-                .map(JobApplicationRequest::getEmail)
-                .filter(e -> e != null && !e.isBlank())
-                .map(e -> e.trim().toLowerCase())
-                .distinct()
-                .toList();
+        int[] scores = applicantMatchScores(apps);
+        Integer minYears = jobFeatureIndex.get(job).experienceMin();
+        for (int i = 0; i < apps.size(); i++) {
+            JobApplicationRequest app = apps.get(i);
+            app.setMatchPercentage(scores[i] != NO_PROFILE
+                    ? scores[i]
+                    // fallback: experience-only match if profile doesn't exist
+                    : experienceMatchPercentage(app.getYearsOfExperience(), minYears));
+        }
+
+        return apps;
+    }
+
+    /** Marks applications in {@link #applicantMatchScores} whose applicant has no profile (or no job). */
+    private static final int NO_PROFILE = -1;
 
-        Map<String, JobSeekerProfile> byEmail = emails.isEmpty()
-                ? Map.of()
-                : profileRepository.findByEmailIn(emails).stream()
-                .filter(p -> p.getEmail() != null && !p.getEmail().isBlank())
+    /**
+     * Match % of each application's seeker against its job.
+     *
+     * Scores come from job_match_scores when present; the rest are scored live in one parallel batch
+     * (profiles loaded through {@link ProfileBatchLoader}) and their jobs queued for materialization.
+     * Applications without a matching profile get {@link #NO_PROFILE}.
+     */
+    private int[] applicantMatchScores(List<JobApplicationRequest> apps) {
+        int n = apps.size();
+        int[] out = new int[n];
+        if (n == 0) return out;
+
+        Set<Long> jobIds = new HashSet<>();
+        for (JobApplicationRequest app : apps) {
+            if (app.getJob() != null && app.getJob().getId() != null) jobIds.add(app.getJob().getId());
+        }
+        Map<Long, Map<String, Integer>> stored = jobMatchScoreService.currentScores(jobIds);
+
+        String[] emails = new String[n];
+        Set<String> missing = new HashSet<>();
+        for (int i = 0; i < n; i++) {
+            JobApplicationRequest app = apps.get(i);
+            String email = app.getEmail() != null && !app.getEmail().isBlank() ? app.getEmail().trim().toLowerCase() : null;
+            Job job = app.getJob();
+            if (email == null || job == null || job.getId() == null) {
+                out[i] = NO_PROFILE;
+                continue;
+            }
+            Integer score = stored.getOrDefault(job.getId(), Map.of()).get(email);
+            if (score != null) {
+                out[i] = score;
+            } else {
+                emails[i] = email;
+                missing.add(email);
+            }
+        }
+        if (missing.isEmpty()) return out;
+
+        // Batch-load scoring projections to avoid N+1 queries (and managed entities)
+        Map<String, ScoringProfile> byEmail = profileBatchLoader.byEmails(missing).stream()
+                .filter(p -> p.email() != null && !p.email().isBlank())
                 .collect(java.util.stream.Collectors.toMap(
-                        p -> p.getEmail().trim().toLowerCase(),
+                        p -> p.email().trim().toLowerCase(),
                         Function.identity(),
                         (a, b) -> a
                 ));
 
-        for (JobApplicationRequest app : apps) {
-            Integer matchPct;
-            String email = app.getEmail() != null ? app.getEmail().trim().toLowerCase() : null;
-            JobSeekerProfile seekerProfile = (email != null && !email.isBlank()) ? byEmail.get(email) : null;
-            if (seekerProfile != null) {
-                matchPct = scoreJob(seekerProfile, job).getMatchPercentage();
-            } else {
-                // fallback: experience-only match if profile doesn't exist
-                matchPct = experienceMatchPercentage(app.getYearsOfExperience(), job.getExperienceRange());
+        // Resolve seeker vectors and job features on this thread (job features may touch lazy state), then score in parallel.
+        SeekerMatchVector[] seekers = new SeekerMatchVector[n];
+        JobFeatures[] features = new JobFeatures[n];
+        Set<Long> missedJobs = new HashSet<>();
+        for (int i = 0; i < n; i++) {
+            if (emails[i] == null) continue;
+            ScoringProfile profile = byEmail.get(emails[i]);
+            if (profile == null) {
+                out[i] = NO_PROFILE;
+                continue;
             }
-            app.setMatchPercentage(matchPct);
+            Job job = apps.get(i).getJob();
+            seekers[i] = seekerMatchVectorCache.get(profile);
+            features[i] = jobFeatureIndex.get(job);
+            missedJobs.add(job.getId());
+        }
+        int[] live = jobScoringExecutor.scoreAll(n, i -> seekers[i] != null
+                ? scoreJob(seekers[i], features[i], null).getMatchPercentage()
+                : 0);
+        for (int i = 0; i < n; i++) {
+            if (seekers[i] != null) out[i] = live[i];
         }
+        missedJobs.forEach(jobMatchScoreService::refreshJob);
+        return out;
+    }
 
-        return apps;
+    private static final int DEFAULT_TOP_CANDIDATES_LIMIT = 20;
+    private static final int MAX_PROFILE_CANDIDATES = 1000;
+
+    /**
+     * Reverse matching: the best {@code limit} job seeker profiles for one of the employer's jobs.
+     *
+     * Only profiles sharing a skill term with the job's key terms are considered (via
+     * {@link ProfileSkillIndex}), at most {@link #MAX_PROFILE_CANDIDATES} of them, most overlapping first.
+     * Those are loaded by id and scored in parallel; the profile table is never scanned.
+     */
+    public List<JobCandidateMatchDTO> getTopCandidatesForJob(Long employerId, Long jobId, Integer limit) {
+        Job job = getJobForEmployer(employerId, jobId);
+        int k = (limit == null || limit <= 0) ? DEFAULT_TOP_CANDIDATES_LIMIT : Math.min(limit, MAX_PROFILE_CANDIDATES);
+        JobFeatures features = jobFeatureIndex.get(job);
+
+        // Only does work if the start-up load failed; changes made elsewhere are applied in the background.
+        profileSkillIndex.load();
+        long[] ids = profileSkillIndex.candidates(features.indexTerms(), MAX_PROFILE_CANDIDATES);
+        if (ids.length == 0) return List.of();
+
+        List<Long> idList = new ArrayList<>(ids.length);
+        for (long id : ids) idList.add(id);
+        Map<Long, ScoringProfile> byId = new HashMap<>();
+        for (ScoringProfile p : profileBatchLoader.byIds(idList)) {
+            byId.put(p.id(), p);
+        }
+
+        // Keep the index's overlap order so equal scores favour the closer skill fit.
+        List<ScoringProfile> profiles = new ArrayList<>(byId.size());
+        for (Long id : idList) {
+            ScoringProfile p = byId.get(id);
+            if (p != null) profiles.add(p);
+        }
+        SeekerMatchVector[] seekers = new SeekerMatchVector[profiles.size()];
+        for (int i = 0; i < seekers.length; i++) {
+            seekers[i] = seekerMatchVectorCache.get(profiles.get(i));
+        }
+        int[] scores = jobScoringExecutor.scoreAll(seekers.length,
+                i -> scoreJob(seekers[i], features, null).getMatchPercentage());
+
+        TopKSelector top = new TopKSelector(k);
+        for (int i = 0; i < seekers.length; i++) {
+            top.offer(scores[i], null, i);
+        }
+
+        List<JobCandidateMatchDTO> out = new ArrayList<>(k);
+        for (int idx : top.indicesDescending()) {
+            ScoringProfile p = profiles.get(idx);
+            JobMatchDTO match = scoreJob(seekers[idx], features, null);
+            out.add(new JobCandidateMatchDTO(
+                    p.id(),
+                    p.fullName(),
+                    p.email(),
+                    p.city(),
+                    p.yearsOfExperience(),
+                    match.getMatchPercentage(),
+                    match.getSkillMatchPercentage(),
+                    match.getExperienceMatchPercentage(),
+                    match.getMatchedSkills(),
+                    match.getMissingSkills()
+            ));
+        }
+        return out;
     }
 
     public List<JobApplicationRequest> getApplicationsByEmail(String email) {
@@ -773,9 +1179,11 @@ public class JobService {
             throw new ForbiddenException("Unauthorized status update");
         }
 
+        ApplicationStatus previous = application.getStatus();
         application.setStatus(status);
 
         JobApplicationRequest saved = applicationRepository.save(application);
+        dashboardRollupService.statusChanged(saved, previous);
 
         // Send status email (non-blocking; EmailService no-ops if mail not configured)
         if (emailService != null) {
@@ -803,23 +1211,157 @@ public class JobService {
     public List<Job> searchJobs(String location, String type, Double minSalary) {
         return jobRepository.search(location, type, minSalary);
     }
-    public List<Job> matchJobsByProfile(String email) {
+
+    /**
+     * Keyword search, best match first. Matches against the weighted full-text vector over role,
+     * company name, requirements and description (role weighs most), combined with the same
+     * optional location/type/minSalary filters as {@link #searchJobs}. {@code q} accepts web-search
+     * syntax: quoted phrases, {@code or}, and {@code -term}.
+     *
+     * @param page zero-based page number
+     */
+    public JobSearchPageDTO searchJobsByKeyword(String q, String location, String type, Double minSalary,
+                                                Integer page, Integer size) {
+        if (q == null || q.isBlank()) {
+            throw new BadRequestException("Search query is required");
+        }
+        int n = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        int p = (page == null || page < 0) ? 0 : page;
+
+        List<Long> ids = jobRepository.searchIdsByKeyword(
+                q.trim(), blankToNull(location), blankToNull(type), minSalary, n + 1, (long) p * n);
+        return listItemPage(ids, p, n);
+    }
+
+    /**
+     * Jobs whose salary range overlaps [min, max] ("paying between X and Y"), newest first.
+     * Either bound may be omitted. Amounts are annualized with {@code period}; when it's omitted,
+     * amounts below {@link SalaryPeriod#HOURLY_THRESHOLD} are read as hourly, as for posted jobs.
+     *
+     * @param page zero-based page number
+     */
+    public JobSearchPageDTO searchJobsBySalaryRange(Double min, Double max, SalaryPeriod period,
+                                                    String location, String type,
+                                                    Integer page, Integer size) {
+        if (min == null && max == null) {
+            throw new BadRequestException("min or max salary is required");
+        }
+        if (min != null && max != null && min > max) {
+            throw new BadRequestException("min salary must not exceed max salary");
+        }
+        if (period == null) {
+            period = SalaryPeriod.infer(max != null ? max : min);
+        }
+        int n = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        int p = (page == null || page < 0) ? 0 : page;
+
+        List<Long> ids = jobRepository.searchIdsBySalaryRange(
+                min == null ? null : period.annualize(min),
+                max == null ? null : period.annualize(max),
+                blankToNull(location), blankToNull(type), n + 1, (long) p * n);
+        return listItemPage(ids, p, n);
+    }
+
+    /**
+     * Loads cards for up to n + 1 ordered ids (the extra one only signals a next page), keeping their order.
+     */
+    private JobSearchPageDTO listItemPage(List<Long> ids, int page, int n) {
+        boolean hasNext = ids.size() > n;
+        if (hasNext) ids = ids.subList(0, n);
+        if (ids.isEmpty()) {
+            return new JobSearchPageDTO(List.of(), page, n, false);
+        }
+
+        Map<Long, JobListItem> byId = new HashMap<>();
+        for (JobListItem item : jobRepository.findListItemsByIdIn(ids)) {
+            byId.put(item.id(), item);
+        }
+        List<JobListItem> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            JobListItem item = byId.get(id);
+            if (item != null) items.add(item);  // deleted between the two queries
+        }
+        return new JobSearchPageDTO(items, page, n, hasNext);
+    }
+
+    /**
+     * Job counts per facet value (employment type, type of work, experience range, language,
+     * urgently hiring) for the given filters, served from {@link JobFacetIndex}.
+     * Multiple values for one facet are OR-ed; each facet's counts ignore that facet's own selection.
+     */
+    public JobFacetCountsDTO getJobFacets(String location, Double minSalary,
+                                          List<String> employmentType, List<String> typeOfWork,
+                                          List<String> experienceRange, List<String> language,
+                                          Boolean urgentlyHiring) {
+        if (!jobFacetIndex.isReady()) {
+            jobFacetIndex.warm(jobRepository.findAll());
+        }
+        Map<JobFacetIndex.Facet, List<String>> selected = new EnumMap<>(JobFacetIndex.Facet.class);
+        selected.put(JobFacetIndex.Facet.EMPLOYMENT_TYPE, employmentType);
+        selected.put(JobFacetIndex.Facet.TYPE_OF_WORK, typeOfWork);
+        selected.put(JobFacetIndex.Facet.EXPERIENCE_RANGE, experienceRange);
+        selected.put(JobFacetIndex.Facet.LANGUAGE, language);
+        selected.put(JobFacetIndex.Facet.URGENTLY_HIRING,
+                urgentlyHiring == null ? null : List.of(urgentlyHiring.toString()));
+        return jobFacetIndex.counts(JobFacetIndex.Query.of(location, minSalary, selected));
+    }
+
+    private static String blankToNull(String s) {
+        return s == null || s.isBlank() ? null : s;
+    }
+    /**
+     * Recommended jobs: only jobs sharing at least one skill term with the seeker,
+     * ranked by match percentage and capped at {@code limit}.
+     */
+    public List<Job> matchJobsByProfile(String email, Integer limit) {
 
         JobSeekerProfile profile =
                 profileRepository.findByEmail(email)
                         .orElseThrow(() ->
                                 new ResourceNotFoundException("Profile required"));
 
-        return jobRepository.findAll().stream()
-                .filter(job ->
-                        profile.getSkills().stream().anyMatch(skill ->
-                                job.getRequirements() != null &&
-                                        job.getRequirements()
-                                                .toLowerCase()
-                                                .contains(skill.toLowerCase())
-                        )
-                )
-                .toList();
+        SeekerMatchVector seeker = seekerMatchVectorCache.get(profile);
+        int k = (limit == null || limit <= 0) ? DEFAULT_RECOMMENDED_LIMIT : limit;
+
+        List<Job> jobs = new ArrayList<>(findCandidateJobs(seeker));
+        JobFeatures[] features = featuresOf(jobs);
+        int[] scores = jobScoringExecutor.scoreAll(jobs.size(),
+                i -> scoreJob(seeker, features[i], null).getMatchPercentage());
+        for (int i = 0; i < jobs.size(); i++) {
+            jobs.get(i).setMatchPercentage(scores[i]);
+        }
+        jobs.sort((a, b) -> Integer.compare(b.getMatchPercentage(), a.getMatchPercentage()));
+        return jobs.size() > k ? new ArrayList<>(jobs.subList(0, k)) : jobs;
+    }
+
+    private JobFeatures[] featuresOf(List<Job> jobs) {
+        JobFeatures[] out = new JobFeatures[jobs.size()];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = jobFeatureIndex.get(jobs.get(i));
+        }
+        return out;
+    }
+
+    private static final int DEFAULT_RECOMMENDED_LIMIT = 20;
+    private static final int MAX_MATCH_CANDIDATES = 500;
+
+    /**
+     * Jobs sharing at least one skill term with the seeker, retrieved through the term index
+     * (most overlapping first, at most {@link #MAX_MATCH_CANDIDATES}) instead of a table scan.
+     */
+    private List<Job> findCandidateJobs(SeekerMatchVector seeker) {
+        if (!jobTermIndex.isReady()) {
+            // Index still warming up: same candidate rule, evaluated over every job.
+            return jobRepository.findAll().stream()
+                    .filter(j -> jobFeatureIndex.get(j).indexTerms().stream().anyMatch(seeker.skillTerms()::contains))
+                    .toList();
+        }
+
+        long[] ids = jobTermIndex.candidates(seeker.skillTerms(), MAX_MATCH_CANDIDATES);
+        if (ids.length == 0) return List.of();
+        List<Long> idList = new ArrayList<>(ids.length);
+        for (long id : ids) idList.add(id);
+        return jobRepository.findAllById(idList);
     }
 
     /**
@@ -860,58 +1402,50 @@ public class JobService {
         return out;
     }
 
-    private static final Pattern NON_WORD = Pattern.compile("[^a-z0-9+.#]+");
-
     /**
      * Multi-factor job match scoring using all available profile and job data.
      * Factors: tiered skills, job-required coverage, role/title match, experience,
      * work preferences, location. Produces differentiated scores (not all same %).
      */
     private JobMatchDTO scoreJob(JobSeekerProfile profile, Job job) {
-        String jobText = normalizeText(
-                (job.getRole() == null ? "" : job.getRole()) + " " +
-                (job.getRequirements() == null ? "" : job.getRequirements()) + " " +
-                (job.getDescription() == null ? "" : job.getDescription())
-        );
-
-        // 1) Tiered skill match: primary 2x, regular 1x, basic 0.5x. Include work-exp technologies.
-        Set<String> primary = new HashSet<>();
-        Set<String> regular = new HashSet<>();
-        Set<String> basic = new HashSet<>();
-        addNormalizedSkills(primary, profile.getPrimarySkills());
-        addNormalizedSkills(regular, profile.getSkills());
-        addNormalizedSkills(basic, profile.getBasicSkills());
-        addNormalizedSkills(regular, collectWorkExpTechnologies(profile));
+        return scoreJob(seekerMatchVectorCache.get(profile), jobFeatureIndex.get(job), job);
+    }
 
+    /**
+     * Pure scoring over precomputed seeker and job views; {@code job} is only carried into the result.
+     * Safe to call from {@link JobScoringExecutor} worker threads.
+     */
+    static JobMatchDTO scoreJob(SeekerMatchVector seeker, JobFeatures features, Job job) {
+        // 1) Tiered skill match: primary 2x, regular 1x, basic 0.5x. Regular includes work-exp technologies.
+        // One automaton pass over the job text finds every skill (word-boundary aware, any domain).
+        SkillMatcher skills = seeker.skillMatcher();
+        boolean[] hits = skills.matchAll(features.text());
         List<String> matched = new ArrayList<>();
         List<String> missing = new ArrayList<>();
         double skillScore = 0;
         double skillMax = 0;
 
-        for (String s : primary) {
-            if (s.isBlank()) continue;
+        for (String s : seeker.primarySkills()) {
             skillMax += 2.0;
-            if (skillMatchesJobText(jobText, s)) {
+            if (hits[skills.indexOf(s)]) {
                 matched.add(s);
                 skillScore += 2.0;
             } else {
                 missing.add(s);
             }
         }
-        for (String s : regular) {
-            if (s.isBlank()) continue;
+        for (String s : seeker.regularSkills()) {
             skillMax += 1.0;
-            if (skillMatchesJobText(jobText, s)) {
+            if (hits[skills.indexOf(s)]) {
                 if (!matched.contains(s)) matched.add(s);
                 skillScore += 1.0;
             } else if (!missing.contains(s)) {
                 missing.add(s);
             }
         }
-        for (String s : basic) {
-            if (s.isBlank()) continue;
+        for (String s : seeker.basicSkills()) {
             skillMax += 0.5;
-            if (skillMatchesJobText(jobText, s)) {
+            if (hits[skills.indexOf(s)]) {
                 if (!matched.contains(s)) matched.add(s);
                 skillScore += 0.5;
             } else if (!missing.contains(s)) {
@@ -922,27 +1456,28 @@ public class JobService {
         int skillPct = skillMax <= 0 ? 0 : (int) Math.round((skillScore / skillMax) * 100);
 
         // 2) Job-required coverage: what % of job's key terms does seeker have?
-        Set<String> jobTerms = extractJobKeyTerms(job);
+        Set<String> jobTerms = features.keyTerms();
         int coveragePct = 0;
         if (!jobTerms.isEmpty()) {
-            long covered = jobTerms.stream()
-                    .filter(term -> seekerHasTerm(profile, term))
-                    .count();
+            int covered = 0;
+            for (String term : jobTerms) {
+                if (seeker.hasTerm(term)) covered++;
+            }
             coveragePct = (int) Math.round((covered * 100.0) / jobTerms.size());
         }
         int combinedSkillPct = (int) Math.round(skillPct * 0.6 + coveragePct * 0.4);
 
         // 3) Role/title match: job role vs past titles, education
-        int rolePct = roleTitleMatchPct(profile, job);
+        int rolePct = roleTitleMatchPct(seeker, features);
 
         // 4) Experience match
-        int expPct = experienceMatchPercentage(profile.getYearsOfExperience(), job.getExperienceRange());
+        int expPct = experienceMatchPercentage(seeker.yearsOfExperience(), features.experienceMin());
 
         // 5) Work preferences: employment type, remote/hybrid/onsite
-        int prefPct = preferenceMatchPct(profile, job);
+        int prefPct = preferenceMatchPct(seeker, features);
 
         // 6) Location match
-        int locPct = locationMatchPct(profile, job);
+        int locPct = locationMatchPct(seeker, features);
 
         // Weights: skills 40%, role 15%, experience 20%, preferences 15%, location 10%
         double finalScore = combinedSkillPct * 0.40
@@ -964,115 +1499,34 @@ public class JobService {
         );
     }
 
-    private static List<String> collectWorkExpTechnologies(JobSeekerProfile profile) {
-        List<String> out = new ArrayList<>();
-        if (profile.getWorkExperience() == null) return out;
-        for (WorkExperience we : profile.getWorkExperience()) {
-            if (we.getTechnologies() != null) {
-                out.addAll(we.getTechnologies());
-            }
-        }
-        return out;
-    }
-
-    /**
-     * Generic skill match: seeker skill appears in job text (word-boundary aware).
-     * Works for any domain: paramedic, firefighter, developer, retail, etc.
-     */
-    private static boolean skillMatchesJobText(String jobText, String skill) {
-        return containsSkill(jobText, skill);
-    }
-
-    /**
-     * Extract key terms from job text dynamically (generic for any job type).
-     * Tokenizes requirements/description/role, filters stop words, keeps meaningful 3+ char terms.
-     */
-    private static final Set<String> STOP_WORDS = Set.of(
-            "the", "and", "for", "with", "this", "that", "from", "have", "has", "been", "will", "can",
-            "your", "you", "are", "was", "were", "our", "not", "but", "they", "their", "would", "could",
-            "should", "about", "into", "more", "other", "some", "than", "when", "which", "while", "them",
-            "then", "these", "what", "where", "who", "how", "all", "each", "every", "both", "few", "most",
-            "such", "only", "own", "same", "too", "very", "just", "also", "must", "may", "need", "able",
-            "applicant", "candidate", "position", "role", "required", "requirements", "preferred", "experience"
-    );
-
-    private static Set<String> extractJobKeyTerms(Job job) {
-        Set<String> terms = new HashSet<>();
-        String text = ((job.getRequirements() != null ? job.getRequirements() : "") + " " +
-                (job.getDescription() != null ? job.getDescription() : "") + " " +
-                (job.getRole() != null ? job.getRole() : "")).toLowerCase();
-
-        String[] tokens = NON_WORD.matcher(text).replaceAll(" ").split("\\s+");
-        for (String t : tokens) {
-            String w = t.trim();
-            if (w.length() >= 3 && !STOP_WORDS.contains(w) && w.matches("[a-z0-9+.#-]+")) {
-                terms.add(w);
-            }
-        }
-        return terms;
-    }
-
-    private static boolean seekerHasTerm(JobSeekerProfile profile, String term) {
-        String t = " " + term + " ";
-        String check = (join(profile.getPrimarySkills()) + " " + join(profile.getSkills()) + " " +
-                join(profile.getBasicSkills()) + " " + (profile.getSummary() != null ? profile.getSummary() : "") +
-                " " + collectWorkExpSkillsString(profile)).toLowerCase();
-        return (" " + NON_WORD.matcher(check).replaceAll(" ") + " ").contains(t);
-    }
-
-    /** Collect skills from work experience (technologies + responsibilities). Generic for any job type. */
-    private static String collectWorkExpSkillsString(JobSeekerProfile profile) {
-        if (profile.getWorkExperience() == null) return "";
-        StringBuilder sb = new StringBuilder();
-        for (WorkExperience we : profile.getWorkExperience()) {
-            if (we.getJobTitle() != null) sb.append(we.getJobTitle()).append(" ");
-            if (we.getTechnologies() != null) {
-                for (String s : we.getTechnologies()) sb.append(s).append(" ");
-            }
-            if (we.getResponsibilities() != null) {
-                for (String s : we.getResponsibilities()) sb.append(s).append(" ");
-            }
-        }
-        return sb.toString();
-    }
-
-    private static String join(List<String> list) {
-        if (list == null) return "";
-        return String.join(" ", list);
-    }
-
-    private static int roleTitleMatchPct(JobSeekerProfile profile, Job job) {
-        String jobRole = (job.getRole() != null ? job.getRole() : "").toLowerCase();
+    private static int roleTitleMatchPct(SeekerMatchVector seeker, JobFeatures job) {
+        String jobRole = job.role();
         if (jobRole.isBlank()) return 50;
 
         int best = 0;
-        if (profile.getWorkExperience() != null) {
-            for (WorkExperience we : profile.getWorkExperience()) {
-                String title = (we.getJobTitle() != null ? we.getJobTitle() : "").toLowerCase();
-                if (title.isBlank()) continue;
-                int sim = textOverlapPct(jobRole, title);
-                if (sim > best) best = sim;
-            }
+        for (List<String> title : seeker.titleWords()) {
+            int sim = textOverlapPct(job.roleWords(), title);
+            if (sim > best) best = sim;
         }
-        if (profile.getEducation() != null && !profile.getEducation().isEmpty()) {
-            for (Education ed : profile.getEducation()) {
-                String deg = (ed.getDegree() != null ? ed.getDegree() : "") + " " + (ed.getFieldOfStudy() != null ? ed.getFieldOfStudy() : "");
-                if (deg.isBlank()) continue;
-                int sim = textOverlapPct(jobRole, deg.trim().toLowerCase());
-                if (sim > best) best = sim;
-            }
+        for (List<String> deg : seeker.degreeWords()) {
+            int sim = textOverlapPct(job.roleWords(), deg);
+            if (sim > best) best = sim;
         }
         return best > 0 ? best : 50;
     }
 
-    private static int textOverlapPct(String a, String b) {
-        if (a.isBlank() || b.isBlank()) return 0;
-        String[] aw = a.split("\\s+");
-        String[] bw = b.split("\\s+");
+    /**
+     * % of the words of {@code aw} that equal, contain or are contained in some word of {@code bw}
+     * (words shorter than 2 chars never match). Inputs are pre-split, see {@link TextTokenizer#whitespace}.
+     */
+    static int textOverlapPct(List<String> aw, List<String> bw) {
+        if (aw.isEmpty() || bw.isEmpty()) return 0;
         int matches = 0;
-        for (String wa : aw) {
+        for (int i = 0; i < aw.size(); i++) {
+            String wa = aw.get(i);
             if (wa.length() < 2) continue;
-            for (String wb : bw) {
+            for (int j = 0; j < bw.size(); j++) {
+                String wb = bw.get(j);
                 if (wb.length() < 2) continue;
                 if (wa.equals(wb) || wa.contains(wb) || wb.contains(wa)) {
                     matches++;
@@ -1080,114 +1534,59 @@ public class JobService {
                 }
             }
         }
-        return aw.length > 0 ? Math.min(100, (matches * 100) / aw.length) : 0;
+        return Math.min(100, (matches * 100) / aw.size());
     }
 
-    private static int preferenceMatchPct(JobSeekerProfile profile, Job job) {
-        Preference pref = profile.getPreference();
-        if (pref == null) return 50;
+    private static int preferenceMatchPct(SeekerMatchVector seeker, JobFeatures job) {
+        List<String> preferred = seeker.preferredJobTypes();
+        if (preferred == null) return 50;
 
-        String jobType = (job.getEmploymentType() != null ? job.getEmploymentType() : "").toLowerCase();
-        if (jobType.isBlank() || pref.getJobType() == null || pref.getJobType().isEmpty()) return 50;
+        String jobType = job.employmentType();
+        if (jobType.isBlank()) return 50;
 
-        boolean match = pref.getJobType().stream()
-                .anyMatch(pt -> pt != null && !pt.isBlank() &&
-                        (jobType.contains(pt.toLowerCase().trim()) || pt.toLowerCase().contains(jobType)));
-        return match ? 100 : 25;
+        for (String pt : preferred) {
+            if (jobType.contains(pt.trim()) || pt.contains(jobType)) return 100;
+        }
+        return 25;
     }
 
-    private static int locationMatchPct(JobSeekerProfile profile, Job job) {
-        String jobLoc = (job.getLocation() != null ? job.getLocation() : "").toLowerCase();
+    private static int locationMatchPct(SeekerMatchVector seeker, JobFeatures job) {
+        String jobLoc = job.location();
         if (jobLoc.isBlank()) return 50;
 
-        String city = (profile.getCity() != null ? profile.getCity() : "").toLowerCase();
+        String city = seeker.city();
         if (!city.isBlank() && jobLoc.contains(city)) return 100;
 
-        if (profile.getWorkExperience() != null) {
-            for (WorkExperience we : profile.getWorkExperience()) {
-                String loc = (we.getLocation() != null ? we.getLocation() : "").toLowerCase();
-                if (!loc.isBlank() && (jobLoc.contains(loc) || loc.contains(jobLoc.split(",")[0].trim()))) {
-                    return 85;
-                }
+        for (String loc : seeker.workLocations()) {
+            if (jobLoc.contains(loc) || loc.contains(job.locationHead())) {
+                return 85;
             }
         }
-        if (profile.getEducation() != null) {
-            for (Education ed : profile.getEducation()) {
-                String loc = (ed.getLocation() != null ? ed.getLocation() : "").toLowerCase();
-                if (!loc.isBlank() && jobLoc.contains(loc)) return 75;
-            }
+        for (String loc : seeker.educationLocations()) {
+            if (jobLoc.contains(loc)) return 75;
         }
         if (jobLoc.contains("remote")) return 70;
         return 30;
     }
 
-    private static void addNormalizedSkills(Set<String> out, List<String> skills) {
-        if (skills == null) return;
-        for (String s : skills) {
-            String norm = normalizeSkill(s);
-            if (norm != null && !norm.isBlank()) out.add(norm);
-        }
-    }
-
-    private static String normalizeSkill(String s) {
-        if (s == null) return null;
-        String t = s.trim().toLowerCase();
-        if (t.isBlank()) return null;
-        // collapse punctuation/spaces but keep common tech symbols (+ . #)
-        t = NON_WORD.matcher(t).replaceAll(" ").trim();
-        return t;
-    }
-
-    private static String normalizeText(String s) {
-        if (s == null) return "";
-        String t = s.toLowerCase();
-        t = NON_WORD.matcher(t).replaceAll(" ");
-        return " " + t.trim() + " ";
-    }
-
-    private static boolean containsSkill(String normalizedJobText, String normalizedSkill) {
-        // Word-boundary-ish check by surrounding spaces after normalization.
-        String needle = " " + normalizedSkill + " ";
-        if (normalizedJobText.contains(needle)) return true;
-
-        // Also allow simple substring match for skills that include +/#/. (e.g., c++, c#, node.js)
-        if (normalizedSkill.contains("+") || normalizedSkill.contains("#") || normalizedSkill.contains(".")) {
-            return normalizedJobText.contains(normalizedSkill);
-        }
-        return false;
+    static int experienceMatchPercentage(Integer yearsOfExperience, String experienceRange) {
+        return experienceMatchPercentage(yearsOfExperience, JobFeatures.parseExperienceMin(experienceRange));
     }
 
-    private static int experienceMatchPercentage(Integer yearsOfExperience, String experienceRange) {
-        if (experienceRange == null || experienceRange.isBlank()) {
+    /**
+     * @param minYears minimum years parsed from the job's experienceRange ("1-2", "5+"), null if unknown
+     */
+    static int experienceMatchPercentage(Integer yearsOfExperience, Integer minYears) {
+        if (minYears == null) {
             return 50; // unknown requirement
         }
         if (yearsOfExperience == null) {
             return 50; // seeker didn't provide experience (treat as unknown, not mismatch)
         }
-
-        String r = experienceRange.trim().toLowerCase();
-        // common inputs: "1-2", "2-3", "3-5", "5+"
-        try {
-            if (r.endsWith("+")) {
-                int min = Integer.parseInt(r.substring(0, r.length() - 1).trim());
-                return yearsOfExperience >= min ? 100 : (int) Math.round((yearsOfExperience * 100.0) / Math.max(1, min));
-            }
-            if (r.contains("-")) {
-                String[] parts = r.split("-");
-                int min = Integer.parseInt(parts[0].trim());
-                int max = Integer.parseInt(parts[1].trim());
-                if (yearsOfExperience < min) {
-                    return (int) Math.round((yearsOfExperience * 100.0) / Math.max(1, min));
-                }
-                if (yearsOfExperience > max) {
-                    return 100;
-                }
-                return 100;
-            }
-        } catch (Exception ignored) {
-            // fall through
+        if (yearsOfExperience >= minYears) {
+            return 100;
         }
-        return 50;
+        return (int) Math.round((yearsOfExperience * 100.0) / Math.max(1, minYears));
     }
 
     public List<ApplicationSummary> summary(String email) {
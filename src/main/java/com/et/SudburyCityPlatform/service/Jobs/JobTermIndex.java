@@ -0,0 +1,11 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Inverted index from job term ({@link JobFeatures#indexTerms()}) to the ids of jobs containing it.
+ * Written by {@link JobFeatureIndex} whenever a job's features are (re)computed or dropped.
+ */
+@Component
+public class JobTermIndex extends TermPostingIndex {
+}
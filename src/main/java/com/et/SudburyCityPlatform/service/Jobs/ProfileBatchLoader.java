@@ -0,0 +1,87 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import com.et.SudburyCityPlatform.models.jobs.ScoringEducationRow;
+import com.et.SudburyCityPlatform.models.jobs.ScoringProfile;
+import com.et.SudburyCityPlatform.models.jobs.ScoringProfileRow;
+import com.et.SudburyCityPlatform.models.jobs.ScoringWorkRow;
+import com.et.SudburyCityPlatform.repository.Jobs.JobSeekerProfileRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loads job seeker profiles in bulk as {@link ScoringProfile}s: only the fields {@link SeekerMatchVector}
+ * reads, with no managed entities, lazy collections or dirty-checking snapshots involved.
+ *
+ * It takes three native queries regardless of how many profiles are loaded: profiles with their skills
+ * and preferred job types aggregated into arrays, work experience with technologies and responsibilities
+ * aggregated the same way, and education. Every employer-side path that scores several applicants or
+ * candidates loads through here.
+ */
+@Component
+public class ProfileBatchLoader {
+
+    private final JobSeekerProfileRepository repository;
+
+    public ProfileBatchLoader(JobSeekerProfileRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Profiles by email, case-insensitively (applications and profiles don't agree on case).
+     */
+    @Transactional(readOnly = true)
+    public List<ScoringProfile> byEmails(Collection<String> emails) {
+        Set<String> normalized = new HashSet<>();
+        for (String email : emails) {
+            if (email != null && !email.isBlank()) normalized.add(email.trim().toLowerCase());
+        }
+        if (normalized.isEmpty()) return List.of();
+        return assemble(repository.findScoringRowsByEmailIn(normalized));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ScoringProfile> byIds(Collection<Long> ids) {
+        if (ids.isEmpty()) return List.of();
+        return assemble(repository.findScoringRowsByIdIn(ids));
+    }
+
+    private List<ScoringProfile> assemble(List<ScoringProfileRow> rows) {
+        if (rows.isEmpty()) return List.of();
+        List<Long> ids = rows.stream().map(ScoringProfileRow::getId).toList();
+
+        Map<Long, List<ScoringProfile.Work>> work = new HashMap<>();
+        for (ScoringWorkRow w : repository.findScoringWorkByProfileIdIn(ids)) {
+            work.computeIfAbsent(w.getProfileId(), k -> new ArrayList<>())
+                    .add(new ScoringProfile.Work(w.getJobTitle(), w.getLocation(),
+                            orEmpty(w.getTechnologies()), orEmpty(w.getResponsibilities())));
+        }
+        Map<Long, List<ScoringProfile.Schooling>> education = new HashMap<>();
+        for (ScoringEducationRow e : repository.findScoringEducationByProfileIdIn(ids)) {
+            education.computeIfAbsent(e.getProfileId(), k -> new ArrayList<>())
+                    .add(new ScoringProfile.Schooling(e.getDegree(), e.getFieldOfStudy(), e.getLocation()));
+        }
+
+        List<ScoringProfile> out = new ArrayList<>(rows.size());
+        for (ScoringProfileRow r : rows) {
+            out.add(new ScoringProfile(
+                    r.getId(), r.getEmail(), r.getFullName(), r.getCity(), r.getSummary(), r.getYearsOfExperience(),
+                    orEmpty(r.getPrimarySkills()), orEmpty(r.getSkills()), orEmpty(r.getBasicSkills()),
+                    orEmpty(r.getJobTypes()),
+                    work.getOrDefault(r.getId(), List.of()),
+                    education.getOrDefault(r.getId(), List.of())));
+        }
+        return out;
+    }
+
+    private static List<String> orEmpty(List<String> values) {
+        return values != null ? values : List.of();
+    }
+}
@@ -0,0 +1,174 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import com.et.SudburyCityPlatform.models.jobs.JobSeekerProfile;
+import com.et.SudburyCityPlatform.models.jobs.ProfileSkill;
+import com.et.SudburyCityPlatform.models.jobs.WorkExperience;
+import com.et.SudburyCityPlatform.repository.Jobs.JobSeekerProfileRepository;
+import com.et.SudburyCityPlatform.service.ChangeVersionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Inverted index from skill term to the ids of job seeker profiles listing it (skills, primary
+ * and basic skills, work-experience technologies). Used to prune reverse matching to profiles
+ * that share at least one term with a job.
+ *
+ * Loading reads only (profile id, skill) pairs in keyset-paged batches, never whole profiles.
+ * The table is loaded once at start-up ({@link #load()}). Profiles saved through this instance are
+ * re-indexed immediately; profiles created or edited elsewhere are picked up in the background by
+ * {@link #catchUp()}, which re-reads only the profiles changed since its last pass.
+ */
+@Slf4j
+@Component
+public class ProfileSkillIndex extends TermPostingIndex {
+
+    private static final int LOAD_BATCH = 1000;
+
+    // Allows for clock skew between instances and for saves committing after their changedAt was set.
+    private static final Duration CATCH_UP_OVERLAP = Duration.ofMinutes(2);
+
+    private final JobSeekerProfileRepository profileRepository;
+    private final ChangeVersionService changeVersionService;
+    private final Object loadLock = new Object();
+
+    // JOB_SEEKER_PROFILES change version the index is current with; -1 until loaded.
+    private final AtomicLong indexedVersion = new AtomicLong(-1);
+    // Start of the last load or catch-up pass; the next pass reads profiles changed since (minus the overlap).
+    private volatile LocalDateTime caughtUpTo;
+
+    public ProfileSkillIndex(JobSeekerProfileRepository profileRepository,
+                             ChangeVersionService changeVersionService) {
+        this.profileRepository = profileRepository;
+        this.changeVersionService = changeVersionService;
+    }
+
+    /**
+     * Re-indexes a profile from its in-memory skill collections.
+     */
+    public void update(JobSeekerProfile profile) {
+        if (profile.getId() == null) return;
+        Set<String> terms = new HashSet<>();
+        addAll(terms, profile.getSkills());
+        addAll(terms, profile.getPrimarySkills());
+        addAll(terms, profile.getBasicSkills());
+        if (profile.getWorkExperience() != null) {
+            for (WorkExperience we : profile.getWorkExperience()) {
+                addAll(terms, we.getTechnologies());
+            }
+        }
+        put(profile.getId(), intern(terms));
+    }
+
+    /**
+     * A profile save through this instance committed as {@code version}; it was already indexed by
+     * {@link #update}. The index stays current only if no other save landed in between.
+     */
+    public void savedLocally(long version) {
+        indexedVersion.compareAndSet(version - 1, version);
+    }
+
+    /**
+     * Loads the whole table in keyset-paged batches and bulk-builds the posting lists. Runs once, at
+     * start-up (or on the first use if that failed); later changes come in through {@link #catchUp()}.
+     */
+    public void load() {
+        synchronized (loadLock) {
+            if (isReady()) return;
+            // Read before loading: a save landing during the load moves the version and triggers a catch-up.
+            long version = changeVersionService.current(ChangeVersionService.JOB_SEEKER_PROFILES);
+            LocalDateTime startedAt = LocalDateTime.now();
+            beginSnapshot();
+            Map<Long, Set<String>> snapshot = new HashMap<>();
+            long after = 0;
+            while (true) {
+                List<Long> ids = profileRepository.findIdsAfter(after, PageRequest.of(0, LOAD_BATCH));
+                if (ids.isEmpty()) break;
+                snapshot.putAll(loadSkillTerms(ids));
+                after = ids.get(ids.size() - 1);
+            }
+            rebuild(snapshot);
+            caughtUpTo = startedAt;
+            indexedVersion.set(version);
+            log.info("Indexed {} profiles ({} distinct skill terms) for reverse matching", snapshot.size(), termCount());
+        }
+    }
+
+    /**
+     * Re-indexes profiles saved through other instances, in the background. A single version lookup unless
+     * the profiles change version moved past what this instance saved itself; then only the profiles whose
+     * changedAt is after the last pass are re-read.
+     */
+    @Scheduled(fixedDelayString = "${matching.profile-index.catch-up-interval:PT15S}",
+            initialDelayString = "${matching.profile-index.catch-up-interval:PT15S}")
+    public void catchUp() {
+        try {
+            if (!isReady()) {
+                load();
+                return;
+            }
+            if (changeVersionService.current(ChangeVersionService.JOB_SEEKER_PROFILES) == indexedVersion.get()) return;
+            synchronized (loadLock) {
+                long version = changeVersionService.current(ChangeVersionService.JOB_SEEKER_PROFILES);
+                if (version == indexedVersion.get()) return;
+                LocalDateTime startedAt = LocalDateTime.now();
+                List<Long> changed = profileRepository.findIdsChangedAfter(caughtUpTo.minus(CATCH_UP_OVERLAP));
+                for (int i = 0; i < changed.size(); i += LOAD_BATCH) {
+                    loadSkillTerms(changed.subList(i, Math.min(changed.size(), i + LOAD_BATCH))).forEach(this::put);
+                }
+                caughtUpTo = startedAt;
+                indexedVersion.accumulateAndGet(version, Math::max);
+                log.debug("Profile skill index catch-up to version {}: {} profiles re-indexed", version, changed.size());
+            }
+        } catch (Exception e) {
+            log.warn("Profile skill index catch-up failed: {}", e.getMessage());
+        }
+    }
+
+    private Map<Long, Set<String>> loadSkillTerms(List<Long> ids) {
+        Map<Long, Set<String>> terms = new HashMap<>();
+        // Profiles without any skill still get an (empty) entry, replacing terms they had before a reload.
+        for (Long id : ids) {
+            terms.put(id, new HashSet<>());
+        }
+        addAll(terms, profileRepository.findSkillsByProfileIdIn(ids));
+        addAll(terms, profileRepository.findPrimarySkillsByProfileIdIn(ids));
+        addAll(terms, profileRepository.findBasicSkillsByProfileIdIn(ids));
+        addAll(terms, profileRepository.findWorkTechnologiesByProfileIdIn(ids));
+        terms.replaceAll((id, set) -> intern(set));
+        return terms;
+    }
+
+    private static void addAll(Map<Long, Set<String>> terms, List<ProfileSkill> rows) {
+        for (ProfileSkill row : rows) {
+            Set<String> set = terms.get(row.getProfileId());
+            if (set != null) SeekerMatchVector.addSkillTerms(set, row.getSkill());
+        }
+    }
+
+    private static void addAll(Set<String> terms, List<String> skills) {
+        if (skills == null) return;
+        for (String s : skills) {
+            SeekerMatchVector.addSkillTerms(terms, s);
+        }
+    }
+
+    // Skill vocabularies are small and shared across many profiles.
+    private static Set<String> intern(Set<String> terms) {
+        Set<String> out = new HashSet<>(terms.size() * 2);
+        for (String t : terms) {
+            out.add(t.intern());
+        }
+        return Set.copyOf(out);
+    }
+}
@@ -0,0 +1,172 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import com.et.SudburyCityPlatform.models.jobs.JobSeekerProfile;
+import com.et.SudburyCityPlatform.models.jobs.ScoringProfile;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable, match-relevant view of a {@link JobSeekerProfile} (built from its {@link ScoringProfile} slice).
+ * Built once per profile (see {@link SeekerMatchVectorCache}) so scoring a profile
+ * against many jobs only does hash lookups against precomputed sets.
+ *
+ * @param profileId         profile id (null for unsaved profiles)
+ * @param primarySkills     normalized primary skills (weighted 2x)
+ * @param regularSkills     normalized skills + work-experience technologies (weighted 1x)
+ * @param basicSkills       normalized basic skills (weighted 0.5x)
+ * @param skillMatcher      automaton over all tiered skills, matches a job text in one pass
+ * @param skillTerms        individual words of all skills above; the query for {@link JobTermIndex}
+ * @param terms             every token of skills, summary and work experience (titles, technologies, responsibilities)
+ * @param titleWords        whitespace-separated words of each lower-cased work-experience job title
+ * @param degreeWords       whitespace-separated words of each lower-cased "degree fieldOfStudy"
+ * @param city              lower-cased city
+ * @param workLocations     lower-cased work-experience locations
+ * @param educationLocations lower-cased education locations
+ * @param preferredJobTypes lower-cased preferred job types, or null when the seeker has no job type preference
+ * @param yearsOfExperience years of experience, may be null
+ */
+public record SeekerMatchVector(
+        Long profileId,
+        List<String> primarySkills,
+        List<String> regularSkills,
+        List<String> basicSkills,
+        SkillMatcher skillMatcher,
+        Set<String> skillTerms,
+        Set<String> terms,
+        List<List<String>> titleWords,
+        List<List<String>> degreeWords,
+        String city,
+        List<String> workLocations,
+        List<String> educationLocations,
+        List<String> preferredJobTypes,
+        Integer yearsOfExperience
+) {
+
+    public static SeekerMatchVector of(JobSeekerProfile profile) {
+        return of(ScoringProfile.of(profile));
+    }
+
+    public static SeekerMatchVector of(ScoringProfile profile) {
+        Set<String> primary = new LinkedHashSet<>();
+        Set<String> regular = new LinkedHashSet<>();
+        Set<String> basic = new LinkedHashSet<>();
+        addNormalizedSkills(primary, profile.primarySkills());
+        addNormalizedSkills(regular, profile.skills());
+        addNormalizedSkills(basic, profile.basicSkills());
+
+        List<String> titles = new ArrayList<>();
+        List<String> workLocations = new ArrayList<>();
+        for (ScoringProfile.Work we : profile.workExperience()) {
+            addNormalizedSkills(regular, we.technologies());
+            String title = (we.jobTitle() != null ? we.jobTitle() : "").toLowerCase();
+            if (!title.isBlank()) titles.add(title);
+            String loc = (we.location() != null ? we.location() : "").toLowerCase();
+            if (!loc.isBlank()) workLocations.add(loc);
+        }
+
+        List<String> allSkills = new ArrayList<>(primary);
+        allSkills.addAll(regular);
+        allSkills.addAll(basic);
+
+        TextTokenizer tokens = TextTokenizer.local();
+        for (String skill : allSkills) {
+            tokens.words(skill);
+        }
+        Set<String> skillTerms = new HashSet<>();
+        tokens.addTerms(skillTerms, 1);
+
+        tokens.clear();
+        words(tokens, profile.primarySkills());
+        words(tokens, profile.skills());
+        words(tokens, profile.basicSkills());
+        tokens.words(profile.summary());
+        for (ScoringProfile.Work we : profile.workExperience()) {
+            tokens.words(we.jobTitle());
+            words(tokens, we.technologies());
+            words(tokens, we.responsibilities());
+        }
+        Set<String> terms = new HashSet<>();
+        tokens.addTerms(terms, 1);
+
+        List<List<String>> titleWords = new ArrayList<>(titles.size());
+        for (String title : titles) {
+            titleWords.add(List.copyOf(TextTokenizer.local().whitespace(title).terms()));
+        }
+
+        List<List<String>> degreeWords = new ArrayList<>();
+        List<String> educationLocations = new ArrayList<>();
+        for (ScoringProfile.Schooling ed : profile.education()) {
+            String deg = (ed.degree() != null ? ed.degree() : "") + " " + (ed.fieldOfStudy() != null ? ed.fieldOfStudy() : "");
+            if (!deg.isBlank()) {
+                degreeWords.add(List.copyOf(TextTokenizer.local().whitespace(deg.trim().toLowerCase()).terms()));
+            }
+            String loc = (ed.location() != null ? ed.location() : "").toLowerCase();
+            if (!loc.isBlank()) educationLocations.add(loc);
+        }
+
+        List<String> preferredJobTypes = null;
+        if (!profile.preferredJobTypes().isEmpty()) {
+            preferredJobTypes = new ArrayList<>();
+            for (String pt : profile.preferredJobTypes()) {
+                if (pt != null && !pt.isBlank()) preferredJobTypes.add(pt.toLowerCase());
+            }
+            preferredJobTypes = List.copyOf(preferredJobTypes);
+        }
+
+        return new SeekerMatchVector(
+                profile.id(),
+                List.copyOf(primary),
+                List.copyOf(regular),
+                List.copyOf(basic),
+                new SkillMatcher(allSkills),
+                Set.copyOf(skillTerms),
+                Set.copyOf(terms),
+                List.copyOf(titleWords),
+                List.copyOf(degreeWords),
+                (profile.city() != null ? profile.city() : "").toLowerCase(),
+                List.copyOf(workLocations),
+                List.copyOf(educationLocations),
+                preferredJobTypes,
+                profile.yearsOfExperience()
+        );
+    }
+
+    /**
+     * True if the seeker's skills, summary or work experience contain the given job term as a whole token.
+     */
+    public boolean hasTerm(String term) {
+        return terms.contains(term);
+    }
+
+    static String normalizeSkill(String s) {
+        if (s == null || s.isBlank()) return null;
+        // collapse punctuation/spaces but keep common tech symbols (+ . #)
+        return TextTokenizer.local().words(s).joined(false);
+    }
+
+    /**
+     * Adds the individual words of a raw skill string, normalized the same way as {@link #skillTerms()}.
+     */
+    static void addSkillTerms(Set<String> out, String skill) {
+        TextTokenizer.local().words(skill).addTerms(out, 1);
+    }
+
+    private static void addNormalizedSkills(Set<String> out, List<String> skills) {
+        if (skills == null) return;
+        for (String s : skills) {
+            String norm = normalizeSkill(s);
+            if (norm != null && !norm.isBlank()) out.add(norm);
+        }
+    }
+
+    private static void words(TextTokenizer tokens, List<String> values) {
+        if (values == null) return;
+        for (String v : values) {
+            tokens.words(v);
+        }
+    }
+}
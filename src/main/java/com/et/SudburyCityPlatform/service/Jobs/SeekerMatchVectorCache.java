@@ -0,0 +1,90 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import com.et.SudburyCityPlatform.models.jobs.JobSeekerProfile;
+import com.et.SudburyCityPlatform.models.jobs.ScoringProfile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of {@link SeekerMatchVector}s keyed by profile id.
+ *
+ * {@link JobSeekerProfileService} invalidates an entry once a profile save commits; a load racing with an
+ * invalidation is returned but not cached. Entries also expire after a TTL so edits made through another
+ * instance are picked up.
+ */
+@Component
+public class SeekerMatchVectorCache {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Map<Long, Entry> byProfileId;
+
+    // Bumped by every invalidation; a load only fills the cache if no invalidation happened meanwhile.
+    private long generation;
+
+    public SeekerMatchVectorCache(
+            @Value("${matching.seeker-vector-cache.max-entries:20000}") int maxEntries,
+            @Value("${matching.seeker-vector-cache.ttl:PT10M}") Duration ttl) {
+        this.maxEntries = Math.max(1, maxEntries);
+        this.ttlNanos = ttl.toNanos();
+        this.byProfileId = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > SeekerMatchVectorCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Must be called while the profile's lazy collections can still be loaded (i.e. on the request thread).
+     */
+    public SeekerMatchVector get(JobSeekerProfile profile) {
+        return get(profile.getId(), () -> SeekerMatchVector.of(profile));
+    }
+
+    public SeekerMatchVector get(ScoringProfile profile) {
+        return get(profile.id(), () -> SeekerMatchVector.of(profile));
+    }
+
+    private SeekerMatchVector get(Long id, Supplier<SeekerMatchVector> build) {
+        if (id == null) {
+            return build.get();
+        }
+        long now = System.nanoTime();
+        long gen;
+        synchronized (byProfileId) {
+            Entry e = byProfileId.get(id);
+            if (e != null && now - e.builtAt < ttlNanos) {
+                return e.vector;
+            }
+            gen = generation;
+        }
+        SeekerMatchVector vector = build.get();
+        synchronized (byProfileId) {
+            if (gen == generation) byProfileId.put(id, new Entry(vector, now));
+        }
+        return vector;
+    }
+
+    public void invalidate(Long profileId) {
+        if (profileId == null) return;
+        synchronized (byProfileId) {
+            generation++;
+            byProfileId.remove(profileId);
+        }
+    }
+
+    public int size() {
+        synchronized (byProfileId) {
+            return byProfileId.size();
+        }
+    }
+
+    private record Entry(SeekerMatchVector vector, long builtAt) {
+    }
+}
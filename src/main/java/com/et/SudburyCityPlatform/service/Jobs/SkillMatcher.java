@@ -0,0 +1,166 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho-Corasick automaton over a seeker's normalized skills. One pass over a normalized
+ * job text (see {@link JobFeatures#text()}) reports every skill it contains.
+ *
+ * Semantics match the old per-skill {@code String.contains} check: a skill matches when it
+ * occurs as whole words (space on both sides); skills containing {@code +}, {@code #} or
+ * {@code .} (c++, c#, node.js) also match as a plain substring.
+ *
+ * Immutable and thread-safe once built. Uses a sparse trie with failure links rather than a
+ * dense transition table, since one automaton is cached per seeker.
+ */
+public final class SkillMatcher {
+
+    private static final char[] NO_CHARS = new char[0];
+    private static final int[] NO_TARGETS = new int[0];
+
+    private final List<String> patterns;
+    private final Map<String, Integer> ids;
+    private final int[] patternLength;
+    private final boolean[] substringMatch;
+
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    private final int[] terminal;   // pattern id ending at this state, or -1
+    private final int[] outLink;    // nearest proper suffix state that is terminal, 0 if none
+
+    public SkillMatcher(List<String> skills) {
+        List<String> distinct = new ArrayList<>();
+        Map<String, Integer> idMap = new HashMap<>();
+        for (String s : skills) {
+            if (s == null || s.isEmpty() || idMap.containsKey(s)) continue;
+            idMap.put(s, distinct.size());
+            distinct.add(s);
+        }
+        this.patterns = List.copyOf(distinct);
+        this.ids = Map.copyOf(idMap);
+        this.patternLength = new int[patterns.size()];
+        this.substringMatch = new boolean[patterns.size()];
+
+        // 1) Trie
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> terminals = new ArrayList<>();
+        children.add(new TreeMap<>());
+        terminals.add(-1);
+        for (int p = 0; p < patterns.size(); p++) {
+            String s = patterns.get(p);
+            patternLength[p] = s.length();
+            substringMatch[p] = s.indexOf('+') >= 0 || s.indexOf('#') >= 0 || s.indexOf('.') >= 0;
+            int state = 0;
+            for (int i = 0; i < s.length(); i++) {
+                Integer next = children.get(state).get(s.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.get(state).put(s.charAt(i), next);
+                    children.add(new TreeMap<>());
+                    terminals.add(-1);
+                }
+                state = next;
+            }
+            terminals.set(state, p);
+        }
+
+        int n = children.size();
+        this.edgeChars = new char[n][];
+        this.edgeTargets = new int[n][];
+        this.terminal = new int[n];
+        for (int st = 0; st < n; st++) {
+            TreeMap<Character, Integer> m = children.get(st);
+            char[] cs = m.isEmpty() ? NO_CHARS : new char[m.size()];
+            int[] ts = m.isEmpty() ? NO_TARGETS : new int[m.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> e : m.entrySet()) {
+                cs[i] = e.getKey();
+                ts[i] = e.getValue();
+                i++;
+            }
+            edgeChars[st] = cs;
+            edgeTargets[st] = ts;
+            terminal[st] = terminals.get(st);
+        }
+
+        // 2) Failure and output links (BFS from the root)
+        this.fail = new int[n];
+        this.outLink = new int[n];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int t : edgeTargets[0]) {
+            queue.add(t);
+        }
+        while (!queue.isEmpty()) {
+            int st = queue.poll();
+            for (int i = 0; i < edgeChars[st].length; i++) {
+                char c = edgeChars[st][i];
+                int child = edgeTargets[st][i];
+                int f = fail[st];
+                int to;
+                while ((to = step(f, c)) < 0 && f != 0) f = fail[f];
+                fail[child] = (to >= 0 && to != child) ? to : 0;
+                int fc = fail[child];
+                outLink[child] = terminal[fc] >= 0 ? fc : outLink[fc];
+                queue.add(child);
+            }
+        }
+    }
+
+    public int size() {
+        return patterns.size();
+    }
+
+    /**
+     * Index of a skill in the arrays returned by {@link #matchAll}, or -1 if it was not compiled in.
+     */
+    public int indexOf(String skill) {
+        Integer id = ids.get(skill);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Scans {@code text} once; {@code result[indexOf(skill)]} is true when the skill occurs in it.
+     *
+     * @param text normalized, space-padded job text
+     */
+    public boolean[] matchAll(String text) {
+        boolean[] hits = new boolean[patterns.size()];
+        if (hits.length == 0) return hits;
+        int remaining = hits.length;
+        int len = text.length();
+        int state = 0;
+        for (int i = 0; i < len; i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = step(state, c)) < 0 && state != 0) state = fail[state];
+            state = next < 0 ? 0 : next;
+
+            for (int s = terminal[state] >= 0 ? state : outLink[state]; s != 0; s = outLink[s]) {
+                int p = terminal[s];
+                if (hits[p]) continue;
+                int start = i - patternLength[p] + 1;
+                boolean wholeWords = start > 0 && text.charAt(start - 1) == ' '
+                        && i + 1 < len && text.charAt(i + 1) == ' ';
+                if (wholeWords || substringMatch[p]) {
+                    hits[p] = true;
+                    if (--remaining == 0) return hits;
+                }
+            }
+        }
+        return hits;
+    }
+
+    private int step(int state, char c) {
+        char[] cs = edgeChars[state];
+        for (int i = 0; i < cs.length; i++) {
+            if (cs[i] == c) return edgeTargets[state][i];
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,85 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+/**
+ * Process-wide canonical instances of match terms, looked up by a span of a char buffer.
+ *
+ * A hit returns the shared String without allocating, so tokenizing text made of known words
+ * creates no per-token Strings; a miss creates the String once and keeps it. Reads are lock-free
+ * (open addressing over a published array); inserts are serialized.
+ */
+final class TermDictionary {
+
+    /** Past this many terms new words are no longer kept (returned as fresh Strings instead). */
+    private static final int MAX_TERMS = 1 << 20;
+
+    private static final Object LOCK = new Object();
+    private static volatile String[] table = new String[1 << 14];
+    private static int size;
+
+    private TermDictionary() {
+    }
+
+    /**
+     * Canonical String for {@code chars[off, off + len)}.
+     *
+     * @param hash {@link String#hashCode()} of the span
+     */
+    static String intern(char[] chars, int off, int len, int hash) {
+        String found = find(table, chars, off, len, hash);
+        if (found != null) return found;
+        synchronized (LOCK) {
+            String[] t = table;
+            found = find(t, chars, off, len, hash);
+            if (found != null) return found;
+            String s = new String(chars, off, len);
+            if (size >= MAX_TERMS) return s;
+            if ((size + 1) * 2 > t.length) {
+                t = grow(t);
+            }
+            insert(t, s, hash);
+            size++;
+            table = t;
+            return s;
+        }
+    }
+
+    static int size() {
+        return size;
+    }
+
+    private static String find(String[] t, char[] chars, int off, int len, int hash) {
+        int mask = t.length - 1;
+        for (int i = mix(hash) & mask; ; i = (i + 1) & mask) {
+            String s = t[i];
+            if (s == null) return null;
+            if (s.hashCode() == hash && sameChars(s, chars, off, len)) return s;
+        }
+    }
+
+    private static boolean sameChars(String s, char[] chars, int off, int len) {
+        if (s.length() != len) return false;
+        for (int k = 0; k < len; k++) {
+            if (s.charAt(k) != chars[off + k]) return false;
+        }
+        return true;
+    }
+
+    private static void insert(String[] t, String s, int hash) {
+        int mask = t.length - 1;
+        int i = mix(hash) & mask;
+        while (t[i] != null) i = (i + 1) & mask;
+        t[i] = s;
+    }
+
+    private static String[] grow(String[] t) {
+        String[] next = new String[t.length * 2];
+        for (String s : t) {
+            if (s != null) insert(next, s, s.hashCode());
+        }
+        return next;
+    }
+
+    private static int mix(int h) {
+        return h ^ (h >>> 16);
+    }
+}
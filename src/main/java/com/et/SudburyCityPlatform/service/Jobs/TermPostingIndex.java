@@ -0,0 +1,198 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Inverted index from term to the ids of the documents (jobs, profiles) containing it.
+ *
+ * Posting lists are sorted primitive {@code long[]} arrays replaced copy-on-write, so readers
+ * never lock and see a consistent list per term. Writes are serialized; a bulk {@link #rebuild}
+ * builds new maps and publishes them in one volatile write, so readers never see it half done.
+ */
+public abstract class TermPostingIndex {
+
+    private static final long[] EMPTY = new long[0];
+    private static final long ID_MASK = (1L << 40) - 1;
+
+    private volatile Map<String, long[]> postings = new ConcurrentHashMap<>();
+    private volatile Map<Long, Set<String>> termsById = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    // Puts (terms) and removes (null) since beginSnapshot(), replayed over the snapshot by rebuild(); null when idle.
+    private Map<Long, Set<String>> writesSinceSnapshot;
+
+    public synchronized void put(long id, Set<String> terms) {
+        if (writesSinceSnapshot != null) writesSinceSnapshot.put(id, terms);
+        Set<String> previous = termsById.put(id, terms);
+        if (previous != null) {
+            for (String term : previous) {
+                if (!terms.contains(term)) removePosting(term, id);
+            }
+        }
+        for (String term : terms) {
+            if (previous == null || !previous.contains(term)) addPosting(term, id);
+        }
+    }
+
+    /**
+     * Call before loading the snapshot passed to {@link #rebuild}: puts and removes from then on are
+     * applied over it, since the snapshot may predate them.
+     */
+    public synchronized void beginSnapshot() {
+        writesSinceSnapshot = new HashMap<>();
+    }
+
+    /**
+     * Bulk (re)load: builds every posting list in one pass instead of one copy-on-write insert per id.
+     * The snapshot is authoritative (ids missing from it are dropped), except for ids written through
+     * {@link #put} or {@link #remove} after {@link #beginSnapshot()}.
+     */
+    public synchronized void rebuild(Map<Long, Set<String>> snapshot) {
+        Map<Long, Set<String>> merged = new HashMap<>(snapshot);
+        if (writesSinceSnapshot != null) {
+            writesSinceSnapshot.forEach((id, terms) -> {
+                if (terms != null) merged.put(id, terms);
+                else merged.remove(id);
+            });
+            writesSinceSnapshot = null;
+        }
+
+        Map<String, LongList> lists = new HashMap<>();
+        for (Map.Entry<Long, Set<String>> e : merged.entrySet()) {
+            long id = e.getKey();
+            for (String term : e.getValue()) {
+                lists.computeIfAbsent(term, t -> new LongList()).add(id);
+            }
+        }
+
+        Map<String, long[]> nextPostings = new ConcurrentHashMap<>(Math.max(16, lists.size() * 2));
+        lists.forEach((term, list) -> nextPostings.put(term, list.toSortedArray()));
+        termsById = new ConcurrentHashMap<>(merged);
+        postings = nextPostings;
+        ready = true;
+    }
+
+    public synchronized void remove(long id) {
+        if (writesSinceSnapshot != null) writesSinceSnapshot.put(id, null);
+        Set<String> previous = termsById.remove(id);
+        if (previous == null) return;
+        for (String term : previous) {
+            removePosting(term, id);
+        }
+    }
+
+    /**
+     * Ids sharing at least one of the given terms, ordered by the number of shared
+     * terms (most first) and capped at {@code maxCandidates}. Cost is proportional to the
+     * total length of the touched posting lists, not to the number of indexed ids.
+     */
+    public long[] candidates(Collection<String> queryTerms, int maxCandidates) {
+        Map<String, long[]> postings = this.postings;
+        int total = 0;
+        long[][] lists = new long[queryTerms.size()][];
+        int n = 0;
+        for (String term : queryTerms) {
+            long[] list = postings.get(term);
+            if (list == null) continue;
+            lists[n++] = list;
+            total += list.length;
+        }
+        if (total == 0 || maxCandidates <= 0) return EMPTY;
+
+        long[] all = new long[total];
+        int pos = 0;
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(lists[i], 0, all, pos, lists[i].length);
+            pos += lists[i].length;
+        }
+        Arrays.sort(all);
+
+        // Run-length encode into (overlap count, id) keys so one sort ranks by overlap.
+        long[] ranked = new long[total];
+        int distinct = 0;
+        for (int i = 0; i < total; ) {
+            int j = i;
+            while (j < total && all[j] == all[i]) j++;
+            ranked[distinct++] = ((long) (j - i) << 40) | all[i];
+            i = j;
+        }
+        Arrays.sort(ranked, 0, distinct);
+
+        int k = Math.min(distinct, maxCandidates);
+        long[] out = new long[k];
+        for (int i = 0; i < k; i++) {
+            out[i] = ranked[distinct - 1 - i] & ID_MASK;
+        }
+        return out;
+    }
+
+    /**
+     * True once the index has been populated from the database; before that callers must fall back to a scan.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * The ids currently indexed (a copy).
+     */
+    public Set<Long> ids() {
+        return Set.copyOf(termsById.keySet());
+    }
+
+    public boolean contains(long id) {
+        return termsById.containsKey(id);
+    }
+
+    private static final class LongList {
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long v) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = v;
+        }
+
+        long[] toSortedArray() {
+            long[] out = Arrays.copyOf(values, size);
+            Arrays.sort(out);
+            return out;
+        }
+    }
+
+    private void addPosting(String term, long id) {
+        postings.compute(term, (t, list) -> {
+            if (list == null) return new long[]{id};
+            int idx = Arrays.binarySearch(list, id);
+            if (idx >= 0) return list;
+            int ins = -idx - 1;
+            long[] next = new long[list.length + 1];
+            System.arraycopy(list, 0, next, 0, ins);
+            next[ins] = id;
+            System.arraycopy(list, ins, next, ins + 1, list.length - ins);
+            return next;
+        });
+    }
+
+    private void removePosting(String term, long id) {
+        postings.computeIfPresent(term, (t, list) -> {
+            int idx = Arrays.binarySearch(list, id);
+            if (idx < 0) return list;
+            if (list.length == 1) return null;
+            long[] next = new long[list.length - 1];
+            System.arraycopy(list, 0, next, 0, idx);
+            System.arraycopy(list, idx + 1, next, idx, list.length - idx - 1);
+            return next;
+        });
+    }
+}
@@ -0,0 +1,181 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Single-pass tokenizer shared by the matching code.
+ *
+ * {@link #words} lower-cases its input and splits it on runs of characters outside
+ * {@code [a-z0-9+.#]} (so "C++", "C#" and "node.js" stay whole); {@link #whitespace} splits on
+ * whitespace the way {@code String.split("\\s+")} does. Token characters go into a reusable
+ * char buffer and each token is recorded as an (offset, length, hash) span in primitive arrays;
+ * callers compare spans in place or get the shared String from {@link TermDictionary} via
+ * {@link #term(int)}, so no String is created per token.
+ *
+ * Calls accumulate until {@link #clear()}, which lets several fields be tokenized as one text.
+ * Not thread-safe; use {@link #local()}.
+ */
+final class TextTokenizer {
+
+    private static final ThreadLocal<TextTokenizer> LOCAL = ThreadLocal.withInitial(TextTokenizer::new);
+
+    private char[] chars = new char[1024];
+    private int used;
+
+    private int[] offsets = new int[128];
+    private int[] lengths = new int[128];
+    private int[] hashes = new int[128];
+    private int count;
+
+    static TextTokenizer local() {
+        return LOCAL.get().clear();
+    }
+
+    TextTokenizer clear() {
+        used = 0;
+        count = 0;
+        return this;
+    }
+
+    /**
+     * Appends the lower-cased {@code [a-z0-9+.#]} runs of {@code text}.
+     */
+    TextTokenizer words(CharSequence text) {
+        if (text == null) return this;
+        int len = text.length();
+        ensureChars(len);
+        int start = -1;
+        int hash = 0;
+        for (int i = 0; i < len; i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            if (isWordChar(c)) {
+                if (start < 0) {
+                    start = used;
+                    hash = 0;
+                }
+                chars[used++] = c;
+                hash = 31 * hash + c;
+            } else if (start >= 0) {
+                addToken(start, used - start, hash);
+                start = -1;
+            }
+        }
+        if (start >= 0) addToken(start, used - start, hash);
+        return this;
+    }
+
+    /**
+     * Appends the tokens {@code String.split("\\s+")} would return for {@code text}, unchanged
+     * in case: non-whitespace runs, preceded by an empty token when the text starts with whitespace.
+     */
+    TextTokenizer whitespace(CharSequence text) {
+        if (text == null) return this;
+        int len = text.length();
+        ensureChars(len);
+        int start = -1;
+        int hash = 0;
+        boolean leadingSpace = len > 0 && isSplitSpace(text.charAt(0));
+        boolean any = false;
+        for (int i = 0; i < len; i++) {
+            char c = text.charAt(i);
+            if (!isSplitSpace(c)) {
+                if (start < 0) {
+                    if (!any && leadingSpace) addToken(used, 0, 0);
+                    any = true;
+                    start = used;
+                    hash = 0;
+                }
+                chars[used++] = c;
+                hash = 31 * hash + c;
+            } else if (start >= 0) {
+                addToken(start, used - start, hash);
+                start = -1;
+            }
+        }
+        if (start >= 0) addToken(start, used - start, hash);
+        return this;
+    }
+
+    int count() {
+        return count;
+    }
+
+    int length(int token) {
+        return lengths[token];
+    }
+
+    /**
+     * Shared String for a token; only allocates the first time a term is ever seen.
+     */
+    String term(int token) {
+        return TermDictionary.intern(chars, offsets[token], lengths[token], hashes[token]);
+    }
+
+    /**
+     * Canonical terms of every token, in order.
+     */
+    List<String> terms() {
+        List<String> out = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) out.add(term(i));
+        return out;
+    }
+
+    /**
+     * Adds the canonical term of every token of at least {@code minLength} chars.
+     */
+    void addTerms(Collection<String> out, int minLength) {
+        for (int i = 0; i < count; i++) {
+            if (lengths[i] >= minLength) out.add(term(i));
+        }
+    }
+
+    /**
+     * The tokens joined by single spaces, optionally with a space before and after.
+     */
+    String joined(boolean padded) {
+        int total = count == 0 ? 0 : count - 1;
+        for (int i = 0; i < count; i++) total += lengths[i];
+        if (padded) total += 2;
+        char[] out = new char[total];
+        int pos = 0;
+        if (padded) out[pos++] = ' ';
+        for (int i = 0; i < count; i++) {
+            if (i > 0) out[pos++] = ' ';
+            System.arraycopy(chars, offsets[i], out, pos, lengths[i]);
+            pos += lengths[i];
+        }
+        if (padded) out[pos] = ' ';
+        return new String(out);
+    }
+
+    static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' || c == '.' || c == '#';
+    }
+
+    // Regex \s: [ \t\n\x0B\f\r]
+    private static boolean isSplitSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private void ensureChars(int extra) {
+        if (used + extra > chars.length) {
+            chars = Arrays.copyOf(chars, Math.max(chars.length * 2, used + extra));
+        }
+    }
+
+    private void addToken(int offset, int length, int hash) {
+        if (count == offsets.length) {
+            int n = count * 2;
+            offsets = Arrays.copyOf(offsets, n);
+            lengths = Arrays.copyOf(lengths, n);
+            hashes = Arrays.copyOf(hashes, n);
+        }
+        offsets[count] = offset;
+        lengths[count] = length;
+        hashes[count] = hash;
+        count++;
+    }
+}
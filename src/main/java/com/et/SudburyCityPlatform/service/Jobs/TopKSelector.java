@@ -0,0 +1,81 @@
+package com.et.SudburyCityPlatform.service.Jobs;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Keeps the best {@code k} (score, postedDate, index) entries seen so far using a min-heap
+ * of packed primitive keys, so ranking N items costs O(N log k) with no boxing.
+ *
+ * Ordering matches the job listing: higher score first, then latest postedDate (nulls last),
+ * then lower input index (i.e. stable with respect to the input order).
+ */
+final class TopKSelector {
+
+    private static final long DAY_OFFSET = 1L << 22;
+    private static final long DAY_MAX = (1L << 24) - 1;
+    private static final long INDEX_MASK = 0x7FFF_FFFFL;
+
+    private final long[] heap;
+    private int size;
+
+    TopKSelector(int k) {
+        this.heap = new long[Math.max(0, k)];
+    }
+
+    void offer(int score, LocalDate postedDate, int index) {
+        if (heap.length == 0) return;
+        long key = pack(score, postedDate, index);
+        if (size < heap.length) {
+            heap[size] = key;
+            siftUp(size++);
+        } else if (key > heap[0]) {
+            heap[0] = key;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Input indices of the selected entries, best first.
+     */
+    int[] indicesDescending() {
+        long[] keys = Arrays.copyOf(heap, size);
+        Arrays.sort(keys);
+        int[] out = new int[size];
+        for (int i = 0; i < size; i++) {
+            out[i] = (int) (INDEX_MASK - (keys[size - 1 - i] & INDEX_MASK));
+        }
+        return out;
+    }
+
+    private static long pack(int score, LocalDate postedDate, int index) {
+        long s = Math.max(0, Math.min(127, score));
+        long day = postedDate == null ? 0 : Math.max(1, Math.min(DAY_MAX, postedDate.toEpochDay() + DAY_OFFSET));
+        return (s << 55) | (day << 31) | (INDEX_MASK - index);
+    }
+
+    private void siftUp(int i) {
+        long key = heap[i];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (heap[parent] <= key) break;
+            heap[i] = heap[parent];
+            i = parent;
+        }
+        heap[i] = key;
+    }
+
+    private void siftDown(int i) {
+        long key = heap[i];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && heap[right] < heap[child]) child = right;
+            if (key <= heap[child]) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = key;
+    }
+}
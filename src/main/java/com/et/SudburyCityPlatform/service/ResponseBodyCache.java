@@ -0,0 +1,101 @@
+package com.et.SudburyCityPlatform.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Pre-encoded JSON bodies of widely shared, unpersonalized payloads (all events, places, programs,
+ * the plain job list), keyed by resource and its {@link ChangeVersionService} version.
+ *
+ * A body is serialized once per version with the application's ObjectMapper (so it's byte-for-byte
+ * what MVC would write), plus a gzip copy when large enough, and then served as-is. A write to the
+ * resource bumps its version, so the next request rebuilds it. Responses carry the same strong ETag
+ * as the version, so unchanged clients get 304 without a body.
+ */
+@Component
+public class ResponseBodyCache {
+
+    private static final int GZIP_MIN_BYTES = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final ChangeVersionService changeVersionService;
+    private final Map<String, Body> byResource = new ConcurrentHashMap<>();
+
+    public ResponseBodyCache(ObjectMapper objectMapper, ChangeVersionService changeVersionService) {
+        this.objectMapper = objectMapper;
+        this.changeVersionService = changeVersionService;
+    }
+
+    /**
+     * @param resource  change-version name of the data behind the payload
+     * @param shared    whether shared (proxy) caches may store the response; false for authenticated payloads
+     * @param payload   loads the value to serialize; only called when the cached body is outdated
+     */
+    public ResponseEntity<byte[]> respond(String resource, boolean shared, ServletWebRequest request, Supplier<?> payload) {
+        long version = changeVersionService.current(resource);
+        String etag = resource + "-" + version;
+        HttpServletResponse servletResponse = request.getResponse();
+        if (servletResponse != null) {
+            // Set on the servlet response so 304s carry them too (and the security chain doesn't add no-store).
+            CacheControl cacheControl = shared ? CacheControl.noCache().cachePublic() : CacheControl.noCache().cachePrivate();
+            servletResponse.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+            servletResponse.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+
+        Body body = byResource.get(resource);
+        if (body == null || body.version != version) {
+            // Data may be newer than version (a write landed in between); it's then rebuilt on the next bump.
+            body = encode(version, payload.get());
+            byResource.merge(resource, body, (old, fresh) -> fresh.version >= old.version ? fresh : old);
+        }
+
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = body.gzip != null && acceptEncoding != null && acceptEncoding.contains("gzip");
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(gzip ? body.gzip : body.json);
+    }
+
+    private Body encode(long version, Object value) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize response body", e);
+        }
+        return new Body(version, json, json.length >= GZIP_MIN_BYTES ? gzip(json) : null);
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private record Body(long version, byte[] json, byte[] gzip) {
+    }
+}
@@ -6,6 +6,7 @@ import com.et.SudburyCityPlatform.models.events.*;
 import com.et.SudburyCityPlatform.repository.events.EventRegistrationRepository;
 import com.et.SudburyCityPlatform.repository.events.EventRepository;
 import com.et.SudburyCityPlatform.repository.events.UserRepository;
+import com.et.SudburyCityPlatform.service.ChangeVersionService;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -18,17 +19,22 @@ public class EventService {
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
     private final EventRegistrationRepository registrationRepository;
+    private final ChangeVersionService changeVersionService;
 
-    public EventService(EventRepository eventRepository, UserRepository userRepository, EventRegistrationRepository registrationRepository) {
+    public EventService(EventRepository eventRepository, UserRepository userRepository, EventRegistrationRepository registrationRepository,
+                        ChangeVersionService changeVersionService) {
         this.eventRepository = eventRepository;
         this.userRepository = userRepository;
         this.registrationRepository = registrationRepository;
+        this.changeVersionService = changeVersionService;
     }
 
     public Event createEvent(EventRequest request) {
         Event event = new Event();
         mapRequestToEvent(request, event);
-        return eventRepository.save(event);
+        Event saved = eventRepository.save(event);
+        changeVersionService.bump(ChangeVersionService.EVENTS);
+        return saved;
     }
 
     public Event updateEvent(Long id, EventRequest request) {
@@ -36,7 +42,9 @@ public class EventService {
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
 
         mapRequestToEvent(request, event);
-        return eventRepository.save(event);
+        Event saved = eventRepository.save(event);
+        changeVersionService.bump(ChangeVersionService.EVENTS);
+        return saved;
     }
 
     public List<Event> getAllEvents() {
@@ -50,6 +58,7 @@ public class EventService {
 
     public void deleteEvent(Long id) {
         eventRepository.deleteById(id);
+        changeVersionService.bump(ChangeVersionService.EVENTS);
     }
 
     private void mapRequestToEvent(EventRequest request, Event event) {
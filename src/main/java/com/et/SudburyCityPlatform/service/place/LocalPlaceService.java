@@ -4,6 +4,7 @@ import com.et.SudburyCityPlatform.exception.ResourceNotFoundException;
 import com.et.SudburyCityPlatform.models.places.LocalPlace;
 import com.et.SudburyCityPlatform.models.places.LocalPlaceRequest;
 import com.et.SudburyCityPlatform.repository.place.LocalPlaceRepository;
+import com.et.SudburyCityPlatform.service.ChangeVersionService;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -12,16 +13,20 @@ import java.util.List;
 public class LocalPlaceService {
 
     private final LocalPlaceRepository repository;
+    private final ChangeVersionService changeVersionService;
 
-    public LocalPlaceService(LocalPlaceRepository repository) {
+    public LocalPlaceService(LocalPlaceRepository repository, ChangeVersionService changeVersionService) {
         this.repository = repository;
+        this.changeVersionService = changeVersionService;
     }
 
     // CREATE
     public LocalPlace create(LocalPlaceRequest request) {
         LocalPlace place = new LocalPlace();
         mapRequestToEntity(request, place);
-        return repository.save(place);
+        LocalPlace saved = repository.save(place);
+        changeVersionService.bump(ChangeVersionService.LOCAL_PLACES);
+        return saved;
     }
 
     // UPDATE
@@ -30,7 +35,9 @@ public class LocalPlaceService {
                 .orElseThrow(() -> new ResourceNotFoundException("Local place not found"));
 
         mapRequestToEntity(request, place);
-        return repository.save(place);
+        LocalPlace saved = repository.save(place);
+        changeVersionService.bump(ChangeVersionService.LOCAL_PLACES);
+        return saved;
     }
 
     // READ ALL
@@ -47,6 +54,7 @@ public class LocalPlaceService {
     // DELETE
     public void delete(Long id) {
         repository.deleteById(id);
+        changeVersionService.bump(ChangeVersionService.LOCAL_PLACES);
     }
 
     private void mapRequestToEntity(LocalPlaceRequest request, LocalPlace place) {
@@ -8,6 +8,7 @@ import com.et.SudburyCityPlatform.repository.Jobs.JobSeekerProfileRepository;
 import com.et.SudburyCityPlatform.repository.program.ProgramEnrollmentRepository;
 import com.et.SudburyCityPlatform.repository.program.ProgramRepository;
 import com.et.SudburyCityPlatform.repository.program.UserRepositoryProgram;
+import com.et.SudburyCityPlatform.service.ChangeVersionService;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -21,25 +22,32 @@ public class ProgramService {
     private final UserRepositoryProgram userRepository;
     private final ProgramEnrollmentRepository enrollmentRepository;
     private final JobSeekerProfileRepository profileRepository;
+    private final ChangeVersionService changeVersionService;
 
-    public ProgramService(ProgramRepository repository, UserRepositoryProgram userRepository, ProgramEnrollmentRepository enrollmentRepository, JobSeekerProfileRepository profileRepository) {
+    public ProgramService(ProgramRepository repository, UserRepositoryProgram userRepository, ProgramEnrollmentRepository enrollmentRepository, JobSeekerProfileRepository profileRepository,
+                          ChangeVersionService changeVersionService) {
         this.repository = repository;
         this.userRepository = userRepository;
         this.enrollmentRepository = enrollmentRepository;
         this.profileRepository = profileRepository;
+        this.changeVersionService = changeVersionService;
     }
 
     public Program create(ProgramRequest request) {
         Program program = new Program();
         map(request, program);
-        return repository.save(program);
+        Program saved = repository.save(program);
+        changeVersionService.bump(ChangeVersionService.PROGRAMS);
+        return saved;
     }
 
     public Program update(Long id, ProgramRequest request) {
         Program program = repository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Program not found"));
         map(request, program);
-        return repository.save(program);
+        Program saved = repository.save(program);
+        changeVersionService.bump(ChangeVersionService.PROGRAMS);
+        return saved;
     }
 
     public List<Program> getAll() {
@@ -53,6 +61,7 @@ public class ProgramService {
 
     public void delete(Long id) {
         repository.deleteById(id);
+        changeVersionService.bump(ChangeVersionService.PROGRAMS);
     }
 
     private void map(ProgramRequest r, Program p) {
@@ -102,6 +111,8 @@ public class ProgramService {
         // 5️⃣ Reduce seat count
         program.setAvailableSeats(program.getAvailableSeats() - 1);
         repository.save(program);
+        // Seats and enrollments are part of the program list payload.
+        changeVersionService.bump(ChangeVersionService.PROGRAMS);
     }
     public List<Program> recommendProgramsForJobSeeker(
             JobSeekerProfile profile) {
@@ -0,0 +1,16 @@
+-- Pooled id sequences (INCREMENT BY = allocationSize 50) for the entities written in bulk, so Hibernate can
+-- batch their inserts; IDENTITY ids forced one round-trip per row. On existing databases each sequence is
+-- moved past the table's current ids. The old identity defaults stay but the application no longer uses them.
+-- On a fresh database the tables don't exist yet and the sequences simply start at 1.
+DO $$
+DECLARE
+    t text;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['jobs', 'applicant_details', 'job_match_scores', 'education', 'work_experience',
+                             'projects', 'achievements', 'certifications', 'language_proficiencies'] LOOP
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I START WITH 1 INCREMENT BY 50', t || '_seq');
+        IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = t) THEN
+            EXECUTE format('SELECT setval(%L, (SELECT COALESCE(MAX(id), 0) + 50 FROM %I))', t || '_seq', t);
+        END IF;
+    END LOOP;
+END $$;
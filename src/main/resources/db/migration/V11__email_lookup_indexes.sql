@@ -0,0 +1,13 @@
+-- Expression indexes for the case-insensitive email matches between applications and profiles
+-- (scoring profile lookups, stored applicant scores, unscored applicants).
+-- On a fresh database the tables are created later by Hibernate; EmailLookupIndexInitializer
+-- applies the same DDL once they exist.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'user_profiles') THEN
+        CREATE INDEX IF NOT EXISTS idx_user_profiles_email_lower ON user_profiles (LOWER(TRIM(email)));
+    END IF;
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'applicant_details') THEN
+        CREATE INDEX IF NOT EXISTS idx_applicant_details_email_lower ON applicant_details (LOWER(TRIM(email)));
+    END IF;
+END $$;
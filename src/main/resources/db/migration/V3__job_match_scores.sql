@@ -0,0 +1,15 @@
+-- Materialized job/profile match scores, filled in the background by JobMatchScoreService.
+-- Rows whose version differs from the current scoring algorithm version are purged on startup.
+CREATE TABLE IF NOT EXISTS job_match_scores (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_id      BIGINT    NOT NULL,
+    profile_id  BIGINT    NOT NULL,
+    score       INTEGER   NOT NULL,
+    skill_pct   INTEGER   NOT NULL,
+    exp_pct     INTEGER   NOT NULL,
+    computed_at TIMESTAMP NOT NULL,
+    version     INTEGER   NOT NULL,
+    CONSTRAINT uk_job_match_scores_job_profile UNIQUE (job_id, profile_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_match_scores_profile ON job_match_scores (profile_id);
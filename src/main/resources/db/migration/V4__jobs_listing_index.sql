@@ -0,0 +1,8 @@
+-- Keyset index for the paged job listing (ORDER BY posted_date DESC, id DESC).
+-- On a fresh database the jobs table is created later by Hibernate, which also creates this index.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'jobs') THEN
+        CREATE INDEX IF NOT EXISTS idx_jobs_posted_date_id ON jobs (posted_date DESC, id DESC);
+    END IF;
+END $$;
@@ -0,0 +1,17 @@
+-- Keyword search over jobs: weighted tsvector generated from role (A), company name and
+-- requirements (B) and description (C), with a GIN index.
+-- On a fresh database the jobs table is created later by Hibernate; JobSearchSchemaInitializer
+-- applies the same DDL once it exists.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'jobs') THEN
+        ALTER TABLE jobs ADD COLUMN IF NOT EXISTS search_vector tsvector
+            GENERATED ALWAYS AS (
+                setweight(to_tsvector('english', coalesce(role, '')), 'A') ||
+                setweight(to_tsvector('english', coalesce(company_name, '')), 'B') ||
+                setweight(to_tsvector('english', coalesce(requirements, '')), 'B') ||
+                setweight(to_tsvector('english', coalesce(description, '')), 'C')
+            ) STORED;
+        CREATE INDEX IF NOT EXISTS idx_jobs_search_vector ON jobs USING GIN (search_vector);
+    END IF;
+END $$;
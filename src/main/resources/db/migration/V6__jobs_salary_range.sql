@@ -0,0 +1,37 @@
+-- Salary range-overlap search: annualized bounds written by the application (Job#annualizeSalary),
+-- a generated numrange over them and a GiST index. Existing rows are backfilled here with the same
+-- rules (amounts below 1000 are hourly, x 2080).
+-- On a fresh database the jobs table is created later by Hibernate; JobSearchSchemaInitializer
+-- adds salary_range and its index once it exists.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'jobs') THEN
+        ALTER TABLE jobs ADD COLUMN IF NOT EXISTS salary_period varchar(255);
+        ALTER TABLE jobs ADD COLUMN IF NOT EXISTS annual_salary_min double precision;
+        ALTER TABLE jobs ADD COLUMN IF NOT EXISTS annual_salary_max double precision;
+
+        UPDATE jobs j
+        SET annual_salary_min = s.lo * s.factor,
+            annual_salary_max = s.hi * s.factor
+        FROM (
+            SELECT id, lo, hi,
+                   CASE WHEN COALESCE(salary_period, CASE WHEN hi < 1000 THEN 'HOURLY' ELSE 'ANNUAL' END) = 'HOURLY'
+                        THEN 2080 ELSE 1 END AS factor
+            FROM (
+                SELECT id, salary_period,
+                       LEAST(COALESCE(salary_min, salary_max, salary), COALESCE(salary_max, salary_min, salary)) AS lo,
+                       GREATEST(COALESCE(salary_min, salary_max, salary), COALESCE(salary_max, salary_min, salary)) AS hi
+                FROM jobs
+            ) b
+            WHERE lo IS NOT NULL
+        ) s
+        WHERE j.id = s.id AND j.annual_salary_min IS NULL;
+
+        ALTER TABLE jobs ADD COLUMN IF NOT EXISTS salary_range numrange
+            GENERATED ALWAYS AS (
+                CASE WHEN annual_salary_min IS NULL OR annual_salary_max IS NULL THEN NULL
+                     ELSE numrange(annual_salary_min::numeric, annual_salary_max::numeric, '[]') END
+            ) STORED;
+        CREATE INDEX IF NOT EXISTS idx_jobs_salary_range ON jobs USING GIST (salary_range);
+    END IF;
+END $$;
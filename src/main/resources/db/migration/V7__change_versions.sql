@@ -0,0 +1,8 @@
+-- Per-resource change counters behind job listing ETags (see ChangeVersionService).
+CREATE TABLE IF NOT EXISTS change_versions (
+    name    VARCHAR(64) PRIMARY KEY,
+    version BIGINT      NOT NULL
+);
+
+INSERT INTO change_versions (name, version) VALUES ('jobs', 0), ('job_seeker_profiles', 0)
+ON CONFLICT (name) DO NOTHING;
@@ -0,0 +1,8 @@
+-- Covers the per-job status counts of the employer job stats (GROUP BY job_id, status).
+-- On a fresh database the table is created later by Hibernate, which also creates this index.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'applicant_details') THEN
+        CREATE INDEX IF NOT EXISTS idx_applicant_details_job_status ON applicant_details (job_id, status);
+    END IF;
+END $$;
@@ -0,0 +1,26 @@
+-- Daily rollup behind the employer dashboard (see EmployerDashboardRollupService):
+-- applications per (employer, job, applied day, current status).
+CREATE TABLE IF NOT EXISTS application_daily_counts (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    employer_id BIGINT      NOT NULL,
+    job_id      BIGINT      NOT NULL,
+    day         DATE        NOT NULL,
+    status      VARCHAR(255) NOT NULL,
+    count       BIGINT      NOT NULL,
+    CONSTRAINT uk_application_daily_counts_employer_day_job_status UNIQUE (employer_id, day, job_id, status)
+);
+
+-- Backfill from existing applications; on a fresh database there are none yet.
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'applicant_details')
+       AND EXISTS (SELECT 1 FROM information_schema.tables WHERE table_name = 'jobs') THEN
+        INSERT INTO application_daily_counts (employer_id, job_id, day, status, count)
+        SELECT j.employer_id, a.job_id, CAST(a.applied_at AS date), a.status, COUNT(*)
+        FROM applicant_details a
+        JOIN jobs j ON j.id = a.job_id
+        WHERE j.employer_id IS NOT NULL AND a.applied_at IS NOT NULL AND a.status IS NOT NULL
+        GROUP BY j.employer_id, a.job_id, CAST(a.applied_at AS date), a.status
+        ON CONFLICT (employer_id, day, job_id, status) DO NOTHING;
+    END IF;
+END $$;